@@ -2,6 +2,7 @@ import { execSync, spawnSync } from 'child_process';
 import { ChildProcess, spawn } from 'mz/child_process';
 import * as vscode from 'vscode';
 import * as path from 'path';
+import * as fs from 'fs';
 import * as net from 'net';
 import { LanguageClient, LanguageClientOptions, ServerOptions, StreamInfo } from 'vscode-languageclient/node';
 
@@ -19,6 +20,14 @@ export function activate(context: vscode.ExtensionContext) {
 		let classPath = path.join(__dirname, '..', '*');
 		const args: string[] = ['-cp', classPath];
 
+		// Use the class data sharing archive created by the `cdsArchive` task of the launchers, if available
+		let serverDir = path.join(__dirname, '..');
+		let sharedArchive = fs.readdirSync(serverDir).find(file => file.endsWith('-uber.jsa'));
+		if (sharedArchive) {
+			logChannel.appendLine('Class Data Sharing Archive: [' + sharedArchive + ']');
+			args.push('-XX:SharedArchiveFile=' + path.join(serverDir, sharedArchive));
+		}
+
 		let ballerinaHome = getBallerinaHome();
 		logChannel.appendLine('Ballerina Home: [' + ballerinaHome + ']');
 
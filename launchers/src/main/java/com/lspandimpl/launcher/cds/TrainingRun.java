@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.cds;
+
+import com.lspandimpl.launcher.stdio.StdioLauncher;
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.DocumentFormattingParams;
+import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.FoldingRangeRequestParams;
+import org.eclipse.lsp4j.FormattingOptions;
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializedParams;
+import org.eclipse.lsp4j.MessageActionItem;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.OnTypeFormattingCapabilities;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.RegistrationParams;
+import org.eclipse.lsp4j.ShowMessageRequestParams;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.UnregistrationParams;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.lsp4j.services.TextDocumentService;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Training run for the class data sharing (AppCDS) archive of the launchers.
+ * <p>
+ * Starts the server through the {@link StdioLauncher} on in-process pipes, opens a small package and waits for the
+ * diagnostics, then exercises the common document requests. The classes loaded during the run are dumped with
+ * {@code -XX:DumpLoadedClassList} by the {@code cdsArchive} task of the launchers, which then creates the archive.
+ * Starting the launchers with {@code -XX:SharedArchiveFile} maps these classes from the archive instead of loading
+ * and verifying them from the uber jar.
+ *
+ * @since 1.0.0
+ */
+public class TrainingRun {
+    private static final long TIMEOUT_SECONDS = 120;
+    private static final String BALLERINA_TOML = "[package]\n"
+            + "org = \"training\"\n"
+            + "name = \"cds\"\n"
+            + "version = \"0.1.0\"\n";
+    private static final String SOURCE = "import ballerina/io;\n"
+            + "\n"
+            + "type Person record {\n"
+            + "    string name;\n"
+            + "    int age;\n"
+            + "};\n"
+            + "\n"
+            + "public function main() {\n"
+            + "    Person person = {name: \"John\", age: 30};\n"
+            + "    io:println(greet(person));\n"
+            + "}\n"
+            + "\n"
+            + "function greet(Person person) returns string {\n"
+            + "    return \"Hello \" + person.name;\n"
+            + "}\n";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path projectRoot = Files.createTempDirectory("ls-cds-training");
+        int exitCode = 0;
+        try {
+            Files.writeString(projectRoot.resolve("Ballerina.toml"), BALLERINA_TOML);
+            Files.writeString(projectRoot.resolve("main.bal"), SOURCE);
+            train(projectRoot);
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Training run failed: " + e);
+            exitCode = 1;
+        } finally {
+            try (Stream<Path> paths = Files.walk(projectRoot)) {
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        }
+        // Threads of the server do not terminate on their own
+        System.exit(exitCode);
+    }
+
+    private static void train(Path projectRoot) throws IOException, InterruptedException, ExecutionException,
+            TimeoutException {
+        Pipe clientToServer = Pipe.open();
+        Pipe serverToClient = Pipe.open();
+        Thread serverThread = new Thread(() -> {
+            try {
+                StdioLauncher.startServer(Channels.newInputStream(clientToServer.source()),
+                        Channels.newOutputStream(serverToClient.sink()));
+            } catch (InterruptedException | ExecutionException e) {
+                // Server has terminated
+            }
+        }, "cds-training-server");
+        serverThread.setDaemon(true);
+        serverThread.start();
+
+        TrainingClient client = new TrainingClient();
+        Launcher<LanguageServer> launcher = LSPLauncher.createClientLauncher(client,
+                Channels.newInputStream(serverToClient.source()), Channels.newOutputStream(clientToServer.sink()));
+        launcher.startListening();
+        LanguageServer server = launcher.getRemoteProxy();
+
+        InitializeParams initializeParams = new InitializeParams();
+        initializeParams.setRootUri(projectRoot.toUri().toString());
+        initializeParams.setCapabilities(getClientCapabilities());
+        server.initialize(initializeParams).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        server.initialized(new InitializedParams());
+
+        String uri = projectRoot.resolve("main.bal").toUri().toString();
+        TextDocumentIdentifier document = new TextDocumentIdentifier(uri);
+        TextDocumentService service = server.getTextDocumentService();
+        service.didOpen(new DidOpenTextDocumentParams(new TextDocumentItem(uri, "ballerina", 1, SOURCE)));
+        client.diagnostics.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        awaitQuietly(service.completion(new CompletionParams(document, new Position(9, 4))));
+        awaitQuietly(service.hover(new HoverParams(document, new Position(9, 16))));
+        awaitQuietly(service.documentSymbol(new DocumentSymbolParams(document)));
+        awaitQuietly(service.foldingRange(new FoldingRangeRequestParams(document)));
+        awaitQuietly(service.formatting(new DocumentFormattingParams(document, new FormattingOptions(4, true))));
+
+        server.shutdown().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Failures of the requests do not matter, since the run only loads the classes.
+     */
+    private static void awaitQuietly(Future<?> request) throws InterruptedException {
+        try {
+            request.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Ignore
+        }
+    }
+
+    private static ClientCapabilities getClientCapabilities() {
+        TextDocumentClientCapabilities textDocument = new TextDocumentClientCapabilities();
+        textDocument.setOnTypeFormatting(new OnTypeFormattingCapabilities(false));
+        ClientCapabilities capabilities = new ClientCapabilities();
+        capabilities.setTextDocument(textDocument);
+
+        return capabilities;
+    }
+
+    /**
+     * Language client which signals the first diagnostics of the server.
+     */
+    private static class TrainingClient implements LanguageClient {
+        private final CompletableFuture<PublishDiagnosticsParams> diagnostics = new CompletableFuture<>();
+
+        @Override
+        public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+            this.diagnostics.complete(diagnostics);
+        }
+
+        @Override
+        public CompletableFuture<Void> registerCapability(RegistrationParams params) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> unregisterCapability(UnregistrationParams params) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void telemetryEvent(Object object) {
+        }
+
+        @Override
+        public void showMessage(MessageParams messageParams) {
+        }
+
+        @Override
+        public CompletableFuture<MessageActionItem> showMessageRequest(ShowMessageRequestParams requestParams) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void logMessage(MessageParams message) {
+        }
+    }
+}
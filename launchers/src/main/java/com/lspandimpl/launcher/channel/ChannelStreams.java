@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.channel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+
+/**
+ * Buffered stream adapters over a blocking {@link ByteChannel}.
+ * <p>
+ * The adapters of {@link java.nio.channels.Channels} synchronize the reads and the writes of a selectable channel on
+ * the same lock, hence a write of the language server blocks while the reader thread waits for the next message of
+ * the client. These adapters delegate to the channel directly, which allows one concurrent reader and writer.
+ * <p>
+ * The JSON-RPC message reader consumes the headers byte by byte and the writer emits the header and the content of a
+ * message separately before flushing. Each stream keeps a single direct buffer for its lifetime, so that a message is
+ * read and written with as few system calls as possible and without a temporary buffer per call.
+ *
+ * @since 1.0.0
+ */
+public class ChannelStreams {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private ChannelStreams() {
+    }
+
+    public static InputStream newInputStream(ByteChannel channel) {
+        return new BufferedChannelInputStream(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static InputStream newInputStream(ByteChannel channel, int bufferSize) {
+        return new BufferedChannelInputStream(channel, bufferSize);
+    }
+
+    public static OutputStream newOutputStream(ByteChannel channel) {
+        return new BufferedChannelOutputStream(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static OutputStream newOutputStream(ByteChannel channel, int bufferSize) {
+        return new BufferedChannelOutputStream(channel, bufferSize);
+    }
+
+    private static class BufferedChannelInputStream extends InputStream {
+        private final ByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private BufferedChannelInputStream(ByteChannel channel, int bufferSize) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+            // Buffer is kept in the read mode between the calls
+            this.buffer.flip();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!this.buffer.hasRemaining() && this.fill() < 0) {
+                return -1;
+            }
+
+            return this.buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining() && this.fill() < 0) {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+
+        private int fill() throws IOException {
+            this.buffer.clear();
+            int read;
+            do {
+                read = this.channel.read(this.buffer);
+            } while (read == 0);
+            this.buffer.flip();
+
+            return read;
+        }
+    }
+
+    private static class BufferedChannelOutputStream extends OutputStream {
+        private final ByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private BufferedChannelOutputStream(ByteChannel channel, int bufferSize) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!this.buffer.hasRemaining()) {
+                this.flush();
+            }
+            this.buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > this.buffer.remaining()) {
+                this.flush();
+            }
+            if (length > this.buffer.capacity()) {
+                // Large message content is written as is, instead of being copied through the buffer in chunks
+                writeFully(ByteBuffer.wrap(bytes, offset, length));
+                return;
+            }
+            this.buffer.put(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.buffer.flip();
+            writeFully(this.buffer);
+            this.buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.flush();
+            } finally {
+                this.channel.close();
+            }
+        }
+
+        private void writeFully(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                this.channel.write(source);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.jsonrpc;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outgoing message consumer which coalesces the notifications into batched writes.
+ * <p>
+ * Notifications such as the diagnostics of a whole project are emitted in bursts. Instead of a write and a flush per
+ * notification, the notifications are buffered and flushed together once the flush delay elapses after the first
+ * buffered notification, or earlier when either the message or the byte threshold is reached. Responses and the
+ * requests to the client are flushed immediately together with the buffered notifications preceding them, hence the
+ * order of the messages is preserved and the request latency is not affected.
+ * <p>
+ * The thresholds are configured with the system properties {@code ls.output.flushDelay} (milliseconds, 0 disables
+ * the batching), {@code ls.output.maxBatchMessages} and {@code ls.output.maxBatchBytes}.
+ *
+ * @since 1.0.0
+ */
+public class BatchingMessageConsumer implements MessageConsumer {
+    public static final int FLUSH_DELAY_MS = Integer.getInteger("ls.output.flushDelay", 5);
+    public static final int MAX_BATCH_MESSAGES = Integer.getInteger("ls.output.maxBatchMessages", 64);
+    public static final int MAX_BATCH_BYTES = Integer.getInteger("ls.output.maxBatchBytes", 64 * 1024);
+    private static final ScheduledExecutorService FLUSH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "output-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final MessageConsumer delegate;
+    private final DeferredFlushOutputStream output;
+    private final Object lock = new Object();
+    private int pendingMessages = 0;
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Create a batching consumer.
+     *
+     * @param delegate message writer, which writes to the given output
+     * @param output   output stream of the message writer
+     */
+    public BatchingMessageConsumer(MessageConsumer delegate, DeferredFlushOutputStream output) {
+        this.delegate = delegate;
+        this.output = output;
+    }
+
+    @Override
+    public void consume(Message message) {
+        synchronized (this.lock) {
+            this.delegate.consume(message);
+            this.pendingMessages++;
+            if (!(message instanceof NotificationMessage) || FLUSH_DELAY_MS <= 0
+                    || this.pendingMessages >= MAX_BATCH_MESSAGES
+                    || this.output.getPendingBytes() >= MAX_BATCH_BYTES) {
+                this.flush();
+            } else if (this.scheduledFlush == null) {
+                this.scheduledFlush = FLUSH_SCHEDULER.schedule(this::flushScheduled, FLUSH_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flushScheduled() {
+        synchronized (this.lock) {
+            try {
+                this.flush();
+            } catch (JsonRpcException e) {
+                // Connection is closed, which is detected and handled by the message reader
+            }
+        }
+    }
+
+    private void flush() {
+        if (this.scheduledFlush != null) {
+            this.scheduledFlush.cancel(false);
+            this.scheduledFlush = null;
+        }
+        this.pendingMessages = 0;
+        try {
+            this.output.flushBuffered();
+        } catch (IOException e) {
+            throw new JsonRpcException(e);
+        }
+    }
+}
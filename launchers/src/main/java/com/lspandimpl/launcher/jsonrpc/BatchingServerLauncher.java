@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.jsonrpc;
+
+import com.lspandimpl.launcher.channel.ChannelStreams;
+import com.lspandimpl.server.core.BalLanguageServer;
+import com.lspandimpl.server.core.metrics.ServerMetrics;
+import com.lspandimpl.server.core.utils.JsonSerializationUtils;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ByteChannel;
+import java.util.Optional;
+
+/**
+ * Creates the language server launchers which batch the outgoing notifications.
+ * <p>
+ * The outgoing messages are serialized with the {@link StreamingMessageConsumer} and the large result types are
+ * written with the streaming type adapters of the server. The messages are recorded with the
+ * {@link MessageTraceRecorder} when the recording is enabled.
+ *
+ * @since 1.0.0
+ */
+public class BatchingServerLauncher {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private BatchingServerLauncher() {
+    }
+
+    /**
+     * Create a launcher for the given language server, with the outgoing messages written through a
+     * {@link BatchingMessageConsumer} and the request metrics recorded for the session.
+     *
+     * @param server language server
+     * @param in     input stream of the client messages
+     * @param out    output stream to the client
+     * @return {@link Launcher} created launcher
+     */
+    public static Launcher<LanguageClient> createServerLauncher(BalLanguageServer server, InputStream in,
+                                                                OutputStream out) {
+        return create(server, in, new DeferredFlushOutputStream(out, OUTPUT_BUFFER_SIZE));
+    }
+
+    /**
+     * Create a launcher for the given language server connected through a channel. The channel output stream
+     * already buffers the messages in a direct buffer, hence the outgoing messages are not buffered once more.
+     *
+     * @param server  language server
+     * @param channel channel connected to the client
+     * @return {@link Launcher} created launcher
+     */
+    public static Launcher<LanguageClient> createServerLauncher(BalLanguageServer server, ByteChannel channel) {
+        return create(server, ChannelStreams.newInputStream(channel),
+                new DeferredFlushOutputStream(ChannelStreams.newOutputStream(channel), 0));
+    }
+
+    private static Launcher<LanguageClient> create(BalLanguageServer server, InputStream in,
+                                                   DeferredFlushOutputStream output) {
+        ServerMetrics metrics = server.getServerMetrics();
+        ServerLauncherBuilder builder = new ServerLauncherBuilder();
+        Optional<MessageTraceRecorder> recorder = MessageTraceRecorder.create(() -> builder.jsonHandler);
+        builder.setLocalService(server)
+                .setRemoteInterface(LanguageClient.class)
+                .setInput(in)
+                .setOutput(output)
+                .configureGson(JsonSerializationUtils::configureGson)
+                // Message wrapper is applied to both directions, where only the writer is a stream consumer
+                .wrapMessages(consumer -> {
+                    if (consumer instanceof StreamMessageConsumer) {
+                        MessageConsumer writer = metrics.wrapOutgoing(new BatchingMessageConsumer(
+                                new StreamingMessageConsumer(output, builder.jsonHandler), output));
+                        return recorder.map(rec -> rec.wrap(writer, MessageTraceRecorder.DIRECTION_OUT))
+                                .orElse(writer);
+                    }
+                    MessageConsumer reader = metrics.wrapIncoming(consumer);
+                    return recorder.map(rec -> rec.wrap(reader, MessageTraceRecorder.DIRECTION_IN)).orElse(reader);
+                });
+
+        return builder.create();
+    }
+
+    /**
+     * Keeps the message handler created by the launcher, which is required by the {@link StreamingMessageConsumer}.
+     */
+    private static class ServerLauncherBuilder extends LSPLauncher.Builder<LanguageClient> {
+        private MessageJsonHandler jsonHandler;
+
+        @Override
+        protected MessageJsonHandler createJsonHandler() {
+            this.jsonHandler = super.createJsonHandler();
+            return this.jsonHandler;
+        }
+    }
+}
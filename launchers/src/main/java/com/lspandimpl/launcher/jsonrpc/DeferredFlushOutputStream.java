@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.jsonrpc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream which buffers the written messages and ignores the flushes requested by the message writer.
+ * The buffered messages are written to the underlying stream only upon {@link #flushBuffered()}. When the underlying
+ * stream is already buffered, a buffer size of zero writes the messages through and only defers the flushes.
+ *
+ * @since 1.0.0
+ */
+public class DeferredFlushOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count = 0;
+    private long pendingBytes = 0;
+
+    public DeferredFlushOutputStream(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (this.buffer.length == 0) {
+            this.out.write(b);
+            this.pendingBytes++;
+            return;
+        }
+        if (this.count == this.buffer.length) {
+            this.writeBuffer();
+        }
+        this.buffer[this.count++] = (byte) b;
+        this.pendingBytes++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > this.buffer.length - this.count) {
+            this.writeBuffer();
+        }
+        if (length >= this.buffer.length) {
+            this.out.write(bytes, offset, length);
+        } else {
+            System.arraycopy(bytes, offset, this.buffer, this.count, length);
+            this.count += length;
+        }
+        this.pendingBytes += length;
+    }
+
+    /**
+     * Flush is deferred until {@link #flushBuffered()}.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Write the buffered bytes and flush the underlying stream.
+     *
+     * @throws IOException if the underlying stream fails
+     */
+    public void flushBuffered() throws IOException {
+        this.writeBuffer();
+        this.out.flush();
+        this.pendingBytes = 0;
+    }
+
+    /**
+     * Get the number of bytes written since the last flush.
+     *
+     * @return {@link Long} number of bytes pending
+     */
+    public long getPendingBytes() {
+        return this.pendingBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flushBuffered();
+        } finally {
+            this.out.close();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+}
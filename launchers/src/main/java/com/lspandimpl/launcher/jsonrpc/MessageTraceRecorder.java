@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.jsonrpc;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Records the JSON-RPC messages of a session with their timing, to be replayed later for load testing.
+ * <p>
+ * Recording is enabled with the system property {@code ls.trace.file}. Each message is written as a line of JSON,
+ * {@code {"time":<milliseconds since the start>,"direction":"in"|"out","message":<JSON-RPC message>}}, where the
+ * direction is relative to the server.
+ *
+ * @since 1.0.0
+ */
+public class MessageTraceRecorder {
+    public static final String DIRECTION_IN = "in";
+    public static final String DIRECTION_OUT = "out";
+    private static final String TRACE_FILE = System.getProperty("ls.trace.file");
+    private static final AtomicInteger SESSION_IDS = new AtomicInteger();
+
+    private final Writer writer;
+    private final Supplier<MessageJsonHandler> jsonHandler;
+    private final long startTime = System.nanoTime();
+
+    private MessageTraceRecorder(Writer writer, Supplier<MessageJsonHandler> jsonHandler) {
+        this.writer = writer;
+        this.jsonHandler = jsonHandler;
+    }
+
+    /**
+     * Create a recorder for a session, if the recording is enabled.
+     *
+     * @param jsonHandler supplies the message handler of the session, once the launcher is created
+     * @return {@link Optional} recorder, empty if the recording is disabled or the trace file cannot be created
+     */
+    public static Optional<MessageTraceRecorder> create(Supplier<MessageJsonHandler> jsonHandler) {
+        if (TRACE_FILE == null) {
+            return Optional.empty();
+        }
+        // Each session of a multi client server records to its own file
+        int sessionId = SESSION_IDS.incrementAndGet();
+        Path traceFile = sessionId == 1 ? Paths.get(TRACE_FILE) : Paths.get(TRACE_FILE + "." + sessionId);
+        try {
+            return Optional.of(new MessageTraceRecorder(Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8),
+                    jsonHandler));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Wrap a message consumer to record the messages passing through.
+     *
+     * @param consumer  message consumer
+     * @param direction {@link #DIRECTION_IN} or {@link #DIRECTION_OUT}
+     * @return {@link MessageConsumer} recording consumer
+     */
+    public MessageConsumer wrap(MessageConsumer consumer, String direction) {
+        return message -> {
+            this.record(this.jsonHandler.get().serialize(message), direction);
+            consumer.consume(message);
+        };
+    }
+
+    private synchronized void record(String message, String direction) {
+        long time = (System.nanoTime() - this.startTime) / 1_000_000;
+        try {
+            this.writer.write("{\"time\":" + time + ",\"direction\":\"" + direction + "\",\"message\":" + message
+                    + "}\n");
+            // Flushed per message, so that the trace is complete even if the server is killed
+            this.writer.flush();
+        } catch (IOException e) {
+            // Recording is best effort and must not affect the session
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.jsonrpc;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message writer which serializes the messages as a stream of UTF-8 bytes.
+ * <p>
+ * The default writer serializes a message into a {@link String} and encodes the string into a byte array, holding
+ * two copies of the payload besides the message object. This writer streams the JSON into a reusable byte buffer,
+ * since the content length header has to precede the content, and writes the buffer to the output without a copy.
+ *
+ * @since 1.0.0
+ */
+public class StreamingMessageConsumer implements MessageConsumer {
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length: ";
+    private static final String CRLF = "\r\n";
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    // Buffer grown by a large message is released afterwards, rather than being held for the session lifetime
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private final OutputStream output;
+    private final MessageJsonHandler jsonHandler;
+    private ContentBuffer content;
+    private Writer writer;
+
+    public StreamingMessageConsumer(OutputStream output, MessageJsonHandler jsonHandler) {
+        this.output = output;
+        this.jsonHandler = jsonHandler;
+        this.resetBuffer();
+    }
+
+    @Override
+    public synchronized void consume(Message message) {
+        try {
+            this.content.reset();
+            this.jsonHandler.serialize(message, this.writer);
+            this.writer.flush();
+            String header = CONTENT_LENGTH_HEADER + this.content.size() + CRLF + CRLF;
+            this.output.write(header.getBytes(StandardCharsets.US_ASCII));
+            this.content.writeTo(this.output);
+            this.output.flush();
+        } catch (IOException e) {
+            throw new JsonRpcException(e);
+        } finally {
+            if (this.content.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                this.resetBuffer();
+            }
+        }
+    }
+
+    private void resetBuffer() {
+        this.content = new ContentBuffer();
+        this.writer = new OutputStreamWriter(this.content, StandardCharsets.UTF_8);
+    }
+
+    private static class ContentBuffer extends ByteArrayOutputStream {
+        private ContentBuffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        private int capacity() {
+            return this.buf.length;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.lspandimpl.launcher.tcp;
 
 import org.eclipse.lsp4j.jsonrpc.Launcher;
-import org.eclipse.lsp4j.launch.LSPLauncher;
 import org.eclipse.lsp4j.services.LanguageClient;
+import com.lspandimpl.launcher.jsonrpc.BatchingServerLauncher;
 import com.lspandimpl.server.core.BalLanguageServer;
 
 import java.io.IOException;
@@ -26,7 +26,7 @@ public class TCPLauncher {
     public static void startServer(InputStream in, OutputStream out)
             throws InterruptedException, ExecutionException {
         BalLanguageServer server = new BalLanguageServer();
-        Launcher<LanguageClient> launcher = LSPLauncher.createServerLauncher(server, in, out);
+        Launcher<LanguageClient> launcher = BatchingServerLauncher.createServerLauncher(server, in, out);
         server.connect(launcher.getRemoteProxy());
         Future<?> startListening = launcher.startListening();
         startListening.get();
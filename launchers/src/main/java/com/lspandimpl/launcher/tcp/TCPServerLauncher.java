@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.tcp;
+
+import com.lspandimpl.launcher.jsonrpc.BatchingServerLauncher;
+import com.lspandimpl.server.core.BalLanguageServer;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * TCP launcher which listens for editor connections and serves multiple clients from a single process.
+ * <p>
+ * Each accepted connection gets its own {@link BalLanguageServer} session. All the sessions share the process, hence
+ * the JIT compiled code and the process wide caches of the compiler are warmed up only once. The exit notification
+ * of a client closes only the connection of that client.
+ * <p>
+ * Usage: {@code TCPServerLauncher [port] [host]}. The server binds to the loopback interface unless a host is
+ * specified, since the connections are not authenticated.
+ *
+ * @since 1.0.0
+ */
+public class TCPServerLauncher {
+    private static final int DEFAULT_PORT = 9925;
+    private static final String DEFAULT_HOST = "127.0.0.1";
+    private static final long ACCEPT_RETRY_DELAY_MS = 100;
+    private static final AtomicInteger SESSION_IDS = new AtomicInteger();
+    private static final Logger LOGGER = Logger.getLogger(TCPServerLauncher.class.getName());
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String host = args.length > 1 ? args[1] : DEFAULT_HOST;
+        try {
+            serve(new InetSocketAddress(host, port));
+        } catch (IOException e) {
+            System.err.println("Failed to start the server on " + host + ":" + port + ": " + e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Accept the client connections on the given address until the server channel is closed.
+     * Failures to accept a single connection are logged and do not affect the other sessions.
+     *
+     * @param address address to listen on
+     * @throws IOException if the address cannot be bound
+     */
+    public static void serve(InetSocketAddress address) throws IOException {
+        ExecutorService sessions = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ls-session-" + SESSION_IDS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(address);
+            while (serverChannel.isOpen()) {
+                SocketChannel channel;
+                try {
+                    channel = serverChannel.accept();
+                } catch (ClosedChannelException e) {
+                    break;
+                } catch (IOException e) {
+                    // Transient failures such as running out of file descriptors must not end the live sessions
+                    LOGGER.log(Level.WARNING, "Failed to accept a connection", e);
+                    if (!backOff()) {
+                        break;
+                    }
+                    continue;
+                }
+                try {
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    sessions.execute(() -> startSession(channel));
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Failed to configure a connection", e);
+                    closeChannel(channel);
+                }
+            }
+        } finally {
+            sessions.shutdownNow();
+        }
+    }
+
+    private static void startSession(SocketChannel channel) {
+        BalLanguageServer server = new BalLanguageServer(exitCode -> closeChannel(channel));
+        try (channel) {
+            Launcher<LanguageClient> launcher = BatchingServerLauncher.createServerLauncher(server, channel);
+            server.connect(launcher.getRemoteProxy());
+            // Completes when the client disconnects or the channel is closed upon exit
+            launcher.startListening().get();
+        } catch (IOException | ExecutionException e) {
+            // Connection has been closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Release the shared resources of the session when the client disconnects without the exit notification
+            server.exit();
+        }
+    }
+
+    /**
+     * Pause before accepting again, so that a persistent failure does not spin the accept loop.
+     *
+     * @return {@link Boolean} false if interrupted
+     */
+    private static boolean backOff() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(ACCEPT_RETRY_DELAY_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeChannel(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Ignore, the session is terminating
+        }
+    }
+}
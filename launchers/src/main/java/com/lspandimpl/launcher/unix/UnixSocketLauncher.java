@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.launcher.unix;
+
+import com.lspandimpl.launcher.jsonrpc.BatchingServerLauncher;
+import com.lspandimpl.server.core.BalLanguageServer;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Unix domain socket launcher for Ballerina Language Server.
+ * <p>
+ * Connects to the socket created by the client, which avoids the TCP/IP stack for the local editor to server traffic.
+ * The socket path is given as the first argument, either as is or in the {@code --pipe=<path>} form used by the
+ * language client libraries.
+ * <p>
+ * Unix domain socket channels are available from Java 16. The API is looked up at runtime, so that the launchers can
+ * still be built and run with the earlier runtimes through the other transports.
+ *
+ * @since 1.0.0
+ */
+public class UnixSocketLauncher {
+    private static final String PIPE_ARG_PREFIX = "--pipe=";
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Socket path is not specified");
+        }
+        String socketPath = args[0].startsWith(PIPE_ARG_PREFIX)
+                ? args[0].substring(PIPE_ARG_PREFIX.length()) : args[0];
+        try (SocketChannel channel = open(Paths.get(socketPath))) {
+            startServer(channel);
+        } catch (IOException e) {
+            System.err.println("Failed to connect to the socket " + socketPath + ": " + e);
+            System.exit(1);
+        } catch (ExecutionException e) {
+            System.err.println("Language server failed: " + e.getCause());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void startServer(SocketChannel channel) throws InterruptedException, ExecutionException {
+        BalLanguageServer server = new BalLanguageServer();
+        Launcher<LanguageClient> launcher = BatchingServerLauncher.createServerLauncher(server, channel);
+        server.connect(launcher.getRemoteProxy());
+        Future<?> startListening = launcher.startListening();
+        startListening.get();
+    }
+
+    private static SocketChannel open(Path socketPath) throws IOException {
+        SocketAddress address;
+        SocketChannel channel;
+        try {
+            address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                    .getMethod("of", Path.class)
+                    .invoke(null, socketPath);
+            channel = (SocketChannel) SocketChannel.class.getMethod("open", ProtocolFamily.class)
+                    .invoke(null, StandardProtocolFamily.valueOf("UNIX"));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new UnsupportedOperationException("Unix domain sockets are not supported", e.getCause());
+        } catch (IllegalArgumentException | ClassNotFoundException | NoSuchMethodException
+                | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or later", e);
+        }
+        try {
+            channel.connect(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return channel;
+    }
+}
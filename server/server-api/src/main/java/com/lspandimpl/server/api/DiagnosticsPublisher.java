@@ -16,8 +16,11 @@
 package com.lspandimpl.server.api;
 
 import com.lspandimpl.server.api.context.BaseOperationContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Diagnostics publisher API allows the server-wide diagnostic publishing capability.
@@ -33,4 +36,15 @@ public interface DiagnosticsPublisher {
      * @param context Operation context
      */
     void publish(BaseOperationContext context, Path path);
+
+    /**
+     * Get the compiler diagnostics of the document spanning any of the given lines, as of the last publish.
+     *
+     * @param context   Operation context
+     * @param path      {@link Path} of the ballerina document
+     * @param startLine first line, inclusive
+     * @param endLine   last line, inclusive
+     * @return {@link Optional} diagnostics, empty if the diagnostics of the current project are not published yet
+     */
+    Optional<List<Diagnostic>> getDiagnostics(BaseOperationContext context, Path path, int startLine, int endLine);
 }
@@ -0,0 +1,51 @@
+package com.lspandimpl.server.api.context;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.eclipse.lsp4j.CodeAction;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Code action provider for a set of diagnostic codes.
+ * Providers are discovered with the {@link java.util.ServiceLoader}. Code actions are requested whenever the cursor
+ * moves, hence a provider only returns the title, kind and a compact data handle of the code action and computes the
+ * edit, along with any semantic query it needs, upon {@link #resolve(BalTextDocumentContext, CodeAction)}.
+ */
+public interface BalCodeActionProvider {
+    /**
+     * Get the unique name of the provider, which is recorded in the data of the code actions it returns in order to
+     * route the resolve request back to the provider.
+     *
+     * @return {@link String} name of the provider
+     */
+    String getName();
+
+    /**
+     * Get the codes of the diagnostics this provider offers code actions for.
+     *
+     * @return {@link List} of diagnostic codes
+     */
+    List<String> diagnosticCodes();
+
+    /**
+     * Get the unresolved code action for the diagnostic. The data of the code action should be a JSON object
+     * containing the uri of the document.
+     *
+     * @param diagnostic diagnostic with one of the attached codes
+     * @param context    code action context
+     * @return {@link Optional} code action without the edit
+     */
+    Optional<CodeAction> getCodeAction(Diagnostic diagnostic, BalCodeActionContext context);
+
+    /**
+     * Compute the edit of a code action returned by this provider.
+     *
+     * @param context    text document context of the document in the code action data
+     * @param unresolved code action to be resolved
+     * @return {@link CodeAction} resolved code action
+     */
+    CodeAction resolve(BalTextDocumentContext context, CodeAction unresolved);
+
+    boolean enabled();
+}
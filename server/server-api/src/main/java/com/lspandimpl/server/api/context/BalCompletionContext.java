@@ -1,4 +1,59 @@
 package com.lspandimpl.server.api.context;
 
+import io.ballerina.compiler.api.symbols.Symbol;
+
+import java.util.List;
+import java.util.Optional;
+
 public interface BalCompletionContext extends BalPosBasedContext {
+    /**
+     * Get the visible symbols at the cursor whose names start with the given prefix.
+     * Unlike {@link #visibleSymbols()}, the result is served from the completion candidate cache,
+     * which is computed once per enclosing scope and document version.
+     *
+     * @param prefix typed prefix at the cursor
+     * @return {@link List} of visible symbols sorted by name
+     */
+    List<Symbol> visibleSymbols(String prefix);
+
+    /**
+     * Get a compact handle for the given symbol, which can be carried in the completion item's data.
+     * The symbol can be resolved back with {@link BalCompletionResolveContext#resolveSymbol(String, String)}
+     * as long as the document version remains the same.
+     *
+     * @param symbol symbol returned from {@link #visibleSymbols(String)}
+     * @return {@link Optional} symbol handle
+     */
+    Optional<String> symbolHandle(Symbol symbol);
+
+    /**
+     * Order the symbols by the relevance at the cursor and keep only the most relevant ones.
+     * If the symbols are truncated, the completion result is marked as incomplete.
+     *
+     * @param symbols candidate symbols
+     * @return {@link List} of the most relevant symbols, most relevant first
+     */
+    List<Symbol> rank(List<Symbol> symbols);
+
+    /**
+     * Mark the completion result as incomplete, so that the client recomputes it upon further typing.
+     *
+     * @param incomplete whether the result is incomplete
+     */
+    void setIncomplete(boolean incomplete);
+
+    /**
+     * Whether the completion result has been truncated and needs to be recomputed upon further typing.
+     *
+     * @return {@link Boolean} true if incomplete
+     */
+    boolean isIncomplete();
+
+    /**
+     * Create a context for a single completion provider. The fork shares the cursor information of this context and
+     * has its own incomplete flag, so that the providers running in parallel do not write to the same context.
+     *
+     * @return {@link BalCompletionContext} forked context
+     */
+    BalCompletionContext fork();
 }
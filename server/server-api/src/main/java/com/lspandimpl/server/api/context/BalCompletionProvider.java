@@ -2,10 +2,18 @@ package com.lspandimpl.server.api.context;
 
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import org.eclipse.lsp4j.CompletionItem;
 
 import java.util.List;
 
+/**
+ * Completion provider for a set of syntax contexts.
+ * Providers are discovered with the {@link java.util.ServiceLoader} and more than one provider can be registered
+ * for the same attachment point, in which case the results of all the providers are merged.
+ *
+ * @param <T> type of the node at the attachment point
+ */
 public interface BalCompletionProvider<T extends Node> {
     List<CompletionItem> getCompletions(T node, BalCompletionContext context);
     
@@ -14,6 +22,13 @@ public interface BalCompletionProvider<T extends Node> {
     void sort(T node, BalCompletionContext context, CompletionItem item, Symbol symbol);
     
     boolean enabled();
-    
-    Class<? extends Node> attachmentPoint();
+
+    /**
+     * Get the syntax kinds of the nodes this provider is attached to.
+     * The provider is selected when the closest enclosing node of the cursor with a registered provider
+     * is of one of these kinds.
+     *
+     * @return {@link List} of syntax kinds
+     */
+    List<SyntaxKind> attachmentPoints();
 }
@@ -5,6 +5,7 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.Position;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface BalCompletionResolveContext extends BalTextDocumentContext {
     List<Symbol> visibleSymbols();
@@ -12,4 +13,13 @@ public interface BalCompletionResolveContext extends BalTextDocumentContext {
     CompletionItem unresolved();
 
     Position getCursorPosition();
+
+    /**
+     * Resolve the symbol for a handle created with {@link BalCompletionContext#symbolHandle(Symbol)}.
+     *
+     * @param uri    document uri where the completion was requested
+     * @param handle symbol handle
+     * @return {@link Optional} symbol, empty if the document has changed since the completion
+     */
+    Optional<Symbol> resolveSymbol(String uri, String handle);
 }
@@ -5,6 +5,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 
 import java.nio.file.Path;
@@ -23,13 +24,50 @@ public abstract class CompilerManager {
     
     public abstract Optional<SyntaxTree> getSyntaxTree(Path path);
 
+    /**
+     * Parse the content of an open document, independent of the project of the document.
+     *
+     * @param path    document path
+     * @param content content of the editor buffer
+     */
+    public abstract void parseDocument(Path path, String content);
+
+    /**
+     * Get the syntax tree parsed from the editor buffer, which is available before the project of the document has
+     * been loaded. Falls back to the syntax tree of the project for the documents which are not open.
+     *
+     * @param path document path
+     * @return {@link Optional} syntax tree
+     */
+    public abstract Optional<SyntaxTree> getParsedSyntaxTree(Path path);
+
+    /**
+     * Discard the parsed syntax tree of a closed document.
+     *
+     * @param path document path
+     */
+    public abstract void discardParsedDocument(Path path);
+
     public abstract void invalidate(Path path);
 
+    /**
+     * Release all the projects held by the session.
+     */
+    public abstract void releaseProjects();
+
     public abstract Optional<Project> openDocument(Path path);
 
     public abstract Optional<Project> updateDocument(Path path, String content);
     
     public abstract Optional<SemanticModel> getSemanticModel(Path path);
+
+    /**
+     * Get the compilation of the current package of the document, compiling the package if not already compiled.
+     *
+     * @param path document path
+     * @return {@link Optional} package compilation
+     */
+    public abstract Optional<PackageCompilation> getCompilation(Path path);
     
     public abstract Optional<Document> getDocument(Path path);
     
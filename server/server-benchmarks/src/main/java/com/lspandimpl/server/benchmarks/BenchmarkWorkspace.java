@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks;
+
+import com.lspandimpl.server.api.context.LSContext;
+import com.lspandimpl.server.ballerina.compiler.workspace.CompilerManager;
+import com.lspandimpl.server.core.BallerinaLSContext;
+import com.lspandimpl.server.core.compiler.manager.BallerinaCompilerManager;
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionItemResolveSupportCapabilities;
+import org.eclipse.lsp4j.OnTypeFormattingCapabilities;
+import org.eclipse.lsp4j.SynchronizationCapabilities;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceClientCapabilities;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Server context with a generated package opened, shared by the benchmarks of a trial.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+public class BenchmarkWorkspace {
+    @Param({"1", "100", "1000"})
+    public int fileCount;
+
+    public LSContext serverContext;
+    public CompilerManager compilerManager;
+    public Path projectRoot;
+    public Path document;
+    public TextDocumentIdentifier documentIdentifier;
+    public String documentContent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.projectRoot = Files.createTempDirectory("ls-benchmarks");
+        FixtureGenerator.generate(this.projectRoot, this.fileCount);
+        this.document = this.projectRoot.resolve(FixtureGenerator.fileName(0));
+        this.documentIdentifier = new TextDocumentIdentifier(this.document.toUri().toString());
+        this.documentContent = FixtureGenerator.source(0);
+
+        BallerinaLSContext context = new BallerinaLSContext();
+        context.setClient(new NoopLanguageClient());
+        context.setClientCapabilities(getClientCapabilities());
+        this.serverContext = context;
+        this.compilerManager = BallerinaCompilerManager.getInstance(context);
+        this.compilerManager.openDocument(this.document).orElseThrow();
+        // Compile once, so that the benchmarks do not include the initial compilation
+        this.compilerManager.getSemanticModel(this.document).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.compilerManager.releaseProjects();
+        try (Stream<Path> paths = Files.walk(this.projectRoot)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    public static ClientCapabilities getClientCapabilities() {
+        CompletionItemCapabilities completionItem = new CompletionItemCapabilities(true);
+        completionItem.setResolveSupport(
+                new CompletionItemResolveSupportCapabilities(Arrays.asList("detail", "documentation")));
+        TextDocumentClientCapabilities textDocument = new TextDocumentClientCapabilities();
+        textDocument.setCompletion(new CompletionCapabilities(completionItem));
+        textDocument.setSynchronization(new SynchronizationCapabilities(true, true, true));
+        textDocument.setOnTypeFormatting(new OnTypeFormattingCapabilities(false));
+        ClientCapabilities capabilities = new ClientCapabilities();
+        capabilities.setTextDocument(textDocument);
+        capabilities.setWorkspace(new WorkspaceClientCapabilities());
+
+        return capabilities;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the document modifications in the compiler manager.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CompilerManagerBenchmark {
+    private int edits = 0;
+
+    @Benchmark
+    public Optional<Project> updateDocument(BenchmarkWorkspace workspace) {
+        return workspace.compilerManager.updateDocument(workspace.document, this.nextContent(workspace));
+    }
+
+    @Benchmark
+    public Optional<SemanticModel> updateDocumentAndCompile(BenchmarkWorkspace workspace) {
+        workspace.compilerManager.updateDocument(workspace.document, this.nextContent(workspace));
+        return workspace.compilerManager.getSemanticModel(workspace.document);
+    }
+
+    /**
+     * Alternate the content, so that every invocation is an actual modification of the document.
+     */
+    private String nextContent(BenchmarkWorkspace workspace) {
+        return workspace.documentContent + "\n// edit " + (this.edits++ % 2) + "\n";
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks;
+
+import com.lspandimpl.server.api.context.BaseOperationContext;
+import com.lspandimpl.server.core.DiagnosticsPublisherImpl;
+import com.lspandimpl.server.core.contexts.ContextBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of publishing the diagnostics after a modification, as done upon a document change.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DiagnosticsPublisherBenchmark {
+    private int edits = 0;
+    private BaseOperationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkWorkspace workspace) {
+        this.context = ContextBuilder.baseContext(workspace.serverContext);
+    }
+
+    /**
+     * Modify the document before each invocation, otherwise the compilation is reused.
+     */
+    @Setup(Level.Invocation)
+    public void modifyDocument(BenchmarkWorkspace workspace) {
+        workspace.compilerManager.updateDocument(workspace.document,
+                workspace.documentContent + "\n// edit " + (this.edits++ % 2) + "\n");
+    }
+
+    @Benchmark
+    public void publish(BenchmarkWorkspace workspace) {
+        DiagnosticsPublisherImpl.getInstance(workspace.serverContext).publish(this.context, workspace.document);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates Ballerina packages of a given number of source files for the benchmarks.
+ * <p>
+ * Each file declares a record type and a few functions, and calls a function of the previous file, so that the
+ * semantic queries such as the references span across the files of the package.
+ *
+ * @since 1.0.0
+ */
+public class FixtureGenerator {
+    /**
+     * Position of the statement within the body of the use function, used for the completion.
+     */
+    public static final int COMPLETION_LINE = 20;
+    public static final int COMPLETION_CHARACTER = 4;
+    /**
+     * Position of the name of the use function, which is referenced from the next file.
+     */
+    public static final int REFERENCE_LINE = 18;
+    public static final int REFERENCE_CHARACTER = 9;
+
+    private static final String BALLERINA_TOML = "[package]\n"
+            + "org = \"benchmarks\"\n"
+            + "name = \"fixture\"\n"
+            + "version = \"0.1.0\"\n";
+
+    private FixtureGenerator() {
+    }
+
+    /**
+     * Generate a package with the given number of source files.
+     *
+     * @param projectRoot directory of the package
+     * @param fileCount   number of source files
+     * @throws IOException if the files cannot be written
+     */
+    public static void generate(Path projectRoot, int fileCount) throws IOException {
+        Files.writeString(projectRoot.resolve("Ballerina.toml"), BALLERINA_TOML);
+        for (int i = 0; i < fileCount; i++) {
+            Files.writeString(projectRoot.resolve(fileName(i)), source(i));
+        }
+    }
+
+    public static String fileName(int index) {
+        return "file_" + index + ".bal";
+    }
+
+    public static String source(int index) {
+        String returnValue = index == 0 ? "total" : "total + use" + (index - 1) + "()";
+        return "type Record" + index + " record {\n"
+                + "    int id;\n"
+                + "    string name;\n"
+                + "};\n"
+                + "\n"
+                + "function create" + index + "(int id) returns Record" + index + " {\n"
+                + "    Record" + index + " value = {id: id, name: \"item\" + id.toString()};\n"
+                + "    return value;\n"
+                + "}\n"
+                + "\n"
+                + "function sum" + index + "(int[] values) returns int {\n"
+                + "    int total = 0;\n"
+                + "    foreach int value in values {\n"
+                + "        total += value;\n"
+                + "    }\n"
+                + "    return total;\n"
+                + "}\n"
+                + "\n"
+                + "function use" + index + "() returns int {\n"
+                + "    Record" + index + " item = create" + index + "(1);\n"
+                + "    int total = sum" + index + "([item.id, 2, 3]);\n"
+                + "    return " + returnValue + ";\n"
+                + "}\n";
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks;
+
+import com.lspandimpl.server.core.completion.BalCompletionRouter;
+import com.lspandimpl.server.core.contexts.ContextBuilder;
+import com.lspandimpl.server.core.docsymbol.DocumentSymbolProvider;
+import com.lspandimpl.server.core.format.FormatProvider;
+import com.lspandimpl.server.core.outline.DocumentOutline;
+import com.lspandimpl.server.core.outline.DocumentOutlineCache;
+import com.lspandimpl.server.core.references.ReferencesProvider;
+import com.lspandimpl.server.core.semantictoken.SemanticTokensProvider;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DocumentFormattingParams;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.FormattingOptions;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.ReferenceContext;
+import org.eclipse.lsp4j.ReferenceParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the document request providers on an unmodified, compiled document.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProviderBenchmark {
+    private CompletionParams completionParams;
+    private SemanticTokensParams semanticTokensParams;
+    private ReferenceParams referenceParams;
+    private DocumentFormattingParams formattingParams;
+    private DocumentSymbolParams documentSymbolParams;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkWorkspace workspace) {
+        this.completionParams = new CompletionParams(workspace.documentIdentifier,
+                new Position(FixtureGenerator.COMPLETION_LINE, FixtureGenerator.COMPLETION_CHARACTER));
+        this.semanticTokensParams = new SemanticTokensParams(workspace.documentIdentifier);
+        this.referenceParams = new ReferenceParams(workspace.documentIdentifier,
+                new Position(FixtureGenerator.REFERENCE_LINE, FixtureGenerator.REFERENCE_CHARACTER),
+                new ReferenceContext(true));
+        this.formattingParams = new DocumentFormattingParams(workspace.documentIdentifier,
+                new FormattingOptions(4, true));
+        this.documentSymbolParams = new DocumentSymbolParams(workspace.documentIdentifier);
+    }
+
+    @Benchmark
+    public CompletionList completion(BenchmarkWorkspace workspace) {
+        return BalCompletionRouter.compute(ContextBuilder.completionContext(workspace.serverContext,
+                this.completionParams));
+    }
+
+    @Benchmark
+    public SemanticTokens semanticTokens(BenchmarkWorkspace workspace) {
+        return SemanticTokensProvider.getSemanticTokens(ContextBuilder.semanticTokensContext(workspace.serverContext,
+                this.semanticTokensParams), getOutline(workspace));
+    }
+
+    @Benchmark
+    public List<Location> references(BenchmarkWorkspace workspace) {
+        return ReferencesProvider.references(ContextBuilder.getReferencesContext(workspace.serverContext,
+                this.referenceParams));
+    }
+
+    @Benchmark
+    public List<TextEdit> format(BenchmarkWorkspace workspace) {
+        return FormatProvider.format(ContextBuilder.baseContext(workspace.serverContext), this.formattingParams);
+    }
+
+    @Benchmark
+    public List<Either<SymbolInformation, DocumentSymbol>> documentSymbols(BenchmarkWorkspace workspace) {
+        return DocumentSymbolProvider.getSymbolInformation(ContextBuilder.documentSymbolContext(
+                workspace.serverContext, this.documentSymbolParams), getOutline(workspace));
+    }
+
+    /**
+     * Builds the outline in a single walk of the syntax tree, which the outline based providers share.
+     */
+    @Benchmark
+    public DocumentOutline outline(BenchmarkWorkspace workspace, EmptyOutlineCache emptyOutlineCache) {
+        return getOutline(workspace);
+    }
+
+    /**
+     * The document is not modified during the benchmarks, hence the outline is built once and served from the cache.
+     */
+    private static DocumentOutline getOutline(BenchmarkWorkspace workspace) {
+        return DocumentOutlineCache.getInstance(workspace.serverContext)
+                .getOutline(workspace.compilerManager, workspace.document);
+    }
+
+    /**
+     * Evicts the outline of the document before each invocation, so that the outline is built by the benchmark.
+     */
+    @State(Scope.Thread)
+    public static class EmptyOutlineCache {
+        @Setup(Level.Invocation)
+        public void invalidate(BenchmarkWorkspace workspace) {
+            DocumentOutlineCache.getInstance(workspace.serverContext).invalidate(workspace.document);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.load;
+
+import com.lspandimpl.launcher.tcp.TCPServerLauncher;
+import com.lspandimpl.server.benchmarks.FixtureGenerator;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Drives a number of {@link SimulatedEditor}s concurrently against a shared language server.
+ * <p>
+ * Unless {@code --connect} is given, a {@link TCPServerLauncher} is started in the same process, so that the heap
+ * growth of the server can be reported along with the throughput and the latency percentiles.
+ * <p>
+ * Usage: {@code LoadGenerator [--clients <n>] [--packages <n>] [--files <n>] [--duration <seconds>]
+ * [--rate <keystrokes per second>] [--port <port>] [--connect <host>:<port>]}. The clients are spread over the given
+ * number of generated packages, hence multiple sessions open the same package when there are fewer packages than
+ * clients.
+ *
+ * @since 1.0.0
+ */
+public class LoadGenerator {
+    private static final String LOOPBACK_HOST = "127.0.0.1";
+    private static final long PENDING_REQUESTS_TIMEOUT_MS = 30000;
+    private static final long HEAP_SAMPLING_INTERVAL_MS = 500;
+
+    private int clients = 10;
+    private int packages = -1;
+    private int files = 10;
+    private long durationSeconds = 60;
+    private double keystrokesPerSecond = 5;
+    private int port = 9925;
+    private InetSocketAddress remoteAddress = null;
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator generator = new LoadGenerator();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--clients":
+                    generator.clients = Integer.parseInt(value);
+                    break;
+                case "--packages":
+                    generator.packages = Integer.parseInt(value);
+                    break;
+                case "--files":
+                    generator.files = Integer.parseInt(value);
+                    break;
+                case "--duration":
+                    generator.durationSeconds = Long.parseLong(value);
+                    break;
+                case "--rate":
+                    generator.keystrokesPerSecond = Double.parseDouble(value);
+                    break;
+                case "--port":
+                    generator.port = Integer.parseInt(value);
+                    break;
+                case "--connect":
+                    int separator = value.lastIndexOf(':');
+                    generator.remoteAddress = new InetSocketAddress(value.substring(0, separator),
+                            Integer.parseInt(value.substring(separator + 1)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (generator.packages <= 0) {
+            generator.packages = generator.clients;
+        }
+
+        generator.run();
+        // Threads of the in-process server and the client connections do not terminate on their own
+        System.exit(0);
+    }
+
+    private void run() throws IOException, InterruptedException, ExecutionException {
+        InetSocketAddress address = this.remoteAddress;
+        if (address == null) {
+            address = new InetSocketAddress(LOOPBACK_HOST, this.port);
+            startServer(address);
+        }
+        List<Path> packageRoots = new ArrayList<>();
+        for (int i = 0; i < this.packages; i++) {
+            Path packageRoot = Files.createTempDirectory("ls-load");
+            FixtureGenerator.generate(packageRoot, this.files);
+            packageRoots.add(packageRoot);
+        }
+
+        LoadReport report = new LoadReport();
+        List<SimulatedEditor> editors = new ArrayList<>();
+        for (int i = 0; i < this.clients; i++) {
+            // Sessions of the same package open different files of the package
+            int fileIndex = (i / this.packages) % this.files;
+            editors.add(new SimulatedEditor(packageRoots.get(i % this.packages), fileIndex, report, i));
+        }
+        AtomicInteger editorIds = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(this.clients, runnable -> {
+            Thread thread = new Thread(runnable, "load-editor-" + editorIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // The typing starts after all the sessions have opened their documents
+            InetSocketAddress serverAddress = address;
+            invokeAll(executor, editors, editor -> editor.connect(serverAddress));
+
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            long heapBefore = this.remoteAddress == null ? usedHeapAfterGc(memory) : 0;
+            AtomicLong heapPeak = new AtomicLong(heapBefore);
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "load-heap-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (this.remoteAddress == null) {
+                sampler.scheduleAtFixedRate(() -> heapPeak.accumulateAndGet(
+                        memory.getHeapMemoryUsage().getUsed(), Math::max),
+                        0, HEAP_SAMPLING_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(this.durationSeconds);
+            invokeAll(executor, editors, editor -> editor.type(deadline, this.keystrokesPerSecond));
+            invokeAll(executor, editors, editor -> editor.awaitPendingRequests(PENDING_REQUESTS_TIMEOUT_MS));
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            sampler.shutdownNow();
+
+            // The heap after the load is measured with the sessions still open, as retained by a busy server
+            LoadReport.HeapUsage heap = this.remoteAddress == null
+                    ? new LoadReport.HeapUsage(heapBefore, heapPeak.get(), usedHeapAfterGc(memory))
+                    : null;
+            report.print(System.out, durationMs, heap);
+        } finally {
+            editors.forEach(SimulatedEditor::close);
+            executor.shutdownNow();
+            for (Path packageRoot : packageRoots) {
+                deleteDirectory(packageRoot);
+            }
+        }
+    }
+
+    private static void startServer(InetSocketAddress address) {
+        Thread server = new Thread(() -> {
+            try {
+                TCPServerLauncher.serve(address);
+            } catch (IOException e) {
+                // The editors fail to connect and report the failure
+            }
+        }, "load-server");
+        server.setDaemon(true);
+        server.start();
+    }
+
+    private static void invokeAll(ExecutorService executor, List<SimulatedEditor> editors, EditorTask task)
+            throws InterruptedException, ExecutionException {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (SimulatedEditor editor : editors) {
+            tasks.add(() -> {
+                task.run(editor);
+                return null;
+            });
+        }
+        for (Future<Void> result : executor.invokeAll(tasks)) {
+            result.get();
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Task executed on each editor.
+     */
+    private interface EditorTask {
+        void run(SimulatedEditor editor) throws Exception;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.load;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput and latency percentiles of the requests issued by the simulated editors, per method.
+ * <p>
+ * Requests failing because the document has been modified while they were computed are expected while typing, and
+ * are reported as stale rather than failed.
+ *
+ * @since 1.0.0
+ */
+public class LoadReport {
+    private static final long MB = 1024 * 1024;
+
+    private final Map<String, MethodReport> methods = new TreeMap<>();
+    private long keystrokes = 0;
+
+    public synchronized void recordKeystroke() {
+        this.keystrokes++;
+    }
+
+    public synchronized void recordResponse(String method, long latencyMs, ResponseStatus status) {
+        MethodReport report = this.methods.computeIfAbsent(method, key -> new MethodReport());
+        report.add(latencyMs);
+        if (status == ResponseStatus.FAILED) {
+            report.failed++;
+        } else if (status == ResponseStatus.STALE) {
+            report.stale++;
+        }
+    }
+
+    public synchronized void recordTimeout(String method) {
+        this.methods.computeIfAbsent(method, key -> new MethodReport()).timedOut++;
+    }
+
+    /**
+     * Print the report.
+     *
+     * @param out        stream to print to
+     * @param durationMs duration of the load
+     * @param heap       heap usage of the server, null if the server runs in another process
+     */
+    public synchronized void print(PrintStream out, long durationMs, HeapUsage heap) {
+        double seconds = Math.max(1, durationMs) / 1000.0;
+        long total = 0;
+        out.printf("%-36s %8s %8s %9s %9s %9s %9s %7s %7s %8s%n", "method", "count", "req/s", "p50(ms)",
+                "p90(ms)", "p99(ms)", "max(ms)", "stale", "failed", "timeout");
+        for (Map.Entry<String, MethodReport> entry : this.methods.entrySet()) {
+            MethodReport report = entry.getValue();
+            long[] latencies = Arrays.copyOf(report.latencies, report.count);
+            Arrays.sort(latencies);
+            total += report.count;
+            out.printf("%-36s %8d %8.1f %9d %9d %9d %9d %7d %7d %8d%n", entry.getKey(), report.count,
+                    report.count / seconds, percentile(latencies, 0.5), percentile(latencies, 0.9),
+                    percentile(latencies, 0.99), percentile(latencies, 1.0), report.stale, report.failed,
+                    report.timedOut);
+        }
+        out.printf("%nDuration: %.1f s, keystrokes: %d, responses: %d (%.1f req/s)%n", seconds, this.keystrokes, total,
+                total / seconds);
+        if (heap == null) {
+            out.println("Heap: not available for a server in another process");
+        } else {
+            out.printf("Heap: %d MB before, %d MB peak, %d MB after GC (%+d MB)%n", heap.before / MB,
+                    heap.peak / MB, heap.after / MB, (heap.after - heap.before) / MB);
+        }
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sortedLatencies.length * percentile) - 1;
+
+        return sortedLatencies[Math.max(0, index)];
+    }
+
+    /**
+     * Outcome of a request.
+     */
+    public enum ResponseStatus {
+        SUCCEEDED,
+        /**
+         * Cancelled by the server with the content modified error, since the document changed meanwhile.
+         */
+        STALE,
+        FAILED
+    }
+
+    /**
+     * Heap used by the process hosting the server, in bytes.
+     */
+    public static class HeapUsage {
+        private final long before;
+        private final long peak;
+        private final long after;
+
+        public HeapUsage(long before, long peak, long after) {
+            this.before = before;
+            this.peak = peak;
+            this.after = after;
+        }
+    }
+
+    private static class MethodReport {
+        private long[] latencies = new long[1024];
+        private int count = 0;
+        private int stale = 0;
+        private int failed = 0;
+        private int timedOut = 0;
+
+        private void add(long latencyMs) {
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+            }
+            this.latencies[this.count++] = latencyMs;
+        }
+    }
+}
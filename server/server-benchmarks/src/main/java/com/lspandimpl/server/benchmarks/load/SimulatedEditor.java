@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.load;
+
+import com.lspandimpl.launcher.channel.ChannelStreams;
+import com.lspandimpl.server.benchmarks.BenchmarkWorkspace;
+import com.lspandimpl.server.benchmarks.FixtureGenerator;
+import com.lspandimpl.server.benchmarks.NoopLanguageClient;
+import com.lspandimpl.server.core.BalExtendedLanguageServer;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializedParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.ReferenceContext;
+import org.eclipse.lsp4j.ReferenceParams;
+import org.eclipse.lsp4j.RenameParams;
+import org.eclipse.lsp4j.SignatureHelpParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.lsp4j.services.TextDocumentService;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Simulated editor connected to a language server over TCP.
+ * <p>
+ * The editor opens a file of a generated package and repeatedly types a statement into the body of a function, one
+ * keystroke at a time, undoing the statement after a pause. Each keystroke sends a full document change followed by
+ * the requests an editor issues while typing: completion on identifier characters, signature help on {@code (} and
+ * {@code ,} and a hover every few keystrokes. References and rename are requested periodically. The requests are not
+ * awaited before the next keystroke, as in an editor.
+ *
+ * @since 1.0.0
+ */
+public class SimulatedEditor {
+    private static final String LANGUAGE_ID = "ballerina";
+    private static final String INDENT = "    ";
+    /**
+     * The statement is typed after the statements of the use function, where the locals are in scope.
+     */
+    private static final int EDIT_LINE = FixtureGenerator.COMPLETION_LINE + 1;
+    private static final int HOVER_KEYSTROKES = 4;
+    private static final int IDLE_KEYSTROKES = 5;
+    private static final long REFERENCES_INTERVAL_MS = 5000;
+    private static final long RENAME_INTERVAL_MS = 20000;
+    private static final long CONNECT_TIMEOUT_MS = 30000;
+
+    private final Path projectRoot;
+    private final int fileIndex;
+    private final LoadReport report;
+    private final Random random;
+    private final Map<CompletableFuture<?>, String> pendingRequests = new ConcurrentHashMap<>();
+    private final String original;
+    private final String head;
+    private final String tail;
+    private final String statement;
+    private TextDocumentIdentifier document;
+    private SocketChannel channel;
+    private BalExtendedLanguageServer server;
+    private int version = 1;
+
+    public SimulatedEditor(Path projectRoot, int fileIndex, LoadReport report, long seed) {
+        this.projectRoot = projectRoot;
+        this.fileIndex = fileIndex;
+        this.report = report;
+        this.random = new Random(seed);
+        this.original = FixtureGenerator.source(fileIndex);
+        int editOffset = 0;
+        for (int line = 0; line < EDIT_LINE; line++) {
+            editOffset = this.original.indexOf('\n', editOffset) + 1;
+        }
+        this.head = this.original.substring(0, editOffset);
+        this.tail = this.original.substring(editOffset);
+        this.statement = "int typed = sum" + fileIndex + "([item.id, total]);";
+    }
+
+    /**
+     * Connect to the server, initialize the session and open the document.
+     * Connecting is retried until the server starts listening.
+     *
+     * @param address address of the server
+     * @throws IOException          if the server cannot be reached
+     * @throws ExecutionException   if the initialization fails
+     * @throws InterruptedException if interrupted while connecting
+     */
+    public void connect(InetSocketAddress address) throws IOException, ExecutionException, InterruptedException {
+        long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MS;
+        while (this.channel == null) {
+            try {
+                this.channel = SocketChannel.open(address);
+            } catch (ConnectException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+        }
+        this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Launcher<BalExtendedLanguageServer> launcher = new Launcher.Builder<BalExtendedLanguageServer>()
+                .setLocalService(new NoopLanguageClient())
+                .setRemoteInterface(BalExtendedLanguageServer.class)
+                .setInput(ChannelStreams.newInputStream(this.channel))
+                .setOutput(ChannelStreams.newOutputStream(this.channel))
+                .create();
+        launcher.startListening();
+        this.server = launcher.getRemoteProxy();
+
+        InitializeParams initializeParams = new InitializeParams();
+        initializeParams.setRootUri(this.projectRoot.toUri().toString());
+        initializeParams.setCapabilities(BenchmarkWorkspace.getClientCapabilities());
+        this.server.initialize(initializeParams).get();
+        this.server.initialized(new InitializedParams());
+
+        String uri = this.projectRoot.resolve(FixtureGenerator.fileName(this.fileIndex)).toUri().toString();
+        this.document = new TextDocumentIdentifier(uri);
+        this.server.getTextDocumentService().didOpen(new DidOpenTextDocumentParams(
+                new TextDocumentItem(uri, LANGUAGE_ID, this.version, this.original)));
+    }
+
+    /**
+     * Type until the deadline.
+     *
+     * @param deadline            {@link System#nanoTime()} at which the typing stops
+     * @param keystrokesPerSecond mean typing rate
+     * @throws InterruptedException if interrupted while typing
+     */
+    public void type(long deadline, double keystrokesPerSecond) throws InterruptedException {
+        long keystrokeInterval = (long) (TimeUnit.SECONDS.toNanos(1) / keystrokesPerSecond);
+        long nextReferences = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(REFERENCES_INTERVAL_MS);
+        long nextRename = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RENAME_INTERVAL_MS);
+        while (System.nanoTime() < deadline) {
+            for (int typed = 1; typed <= this.statement.length() && System.nanoTime() < deadline; typed++) {
+                this.pause(keystrokeInterval);
+                this.keystroke(typed);
+                long now = System.nanoTime();
+                if (now >= nextReferences) {
+                    this.references();
+                    nextReferences = now + TimeUnit.MILLISECONDS.toNanos(REFERENCES_INTERVAL_MS);
+                }
+                if (now >= nextRename) {
+                    this.rename();
+                    nextRename = now + TimeUnit.MILLISECONDS.toNanos(RENAME_INTERVAL_MS);
+                }
+            }
+            // The user pauses and undoes the statement, which keeps the document size stable over the run
+            this.pause(keystrokeInterval * IDLE_KEYSTROKES);
+            this.changeDocument(this.original);
+        }
+    }
+
+    /**
+     * Wait for the pending requests, and record the ones which have not completed as timed out.
+     *
+     * @param timeoutMs time to wait for the pending requests
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitPendingRequests(long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!this.pendingRequests.isEmpty() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        for (Map.Entry<CompletableFuture<?>, String> request : this.pendingRequests.entrySet()) {
+            if (this.pendingRequests.remove(request.getKey()) != null) {
+                this.report.recordTimeout(request.getValue());
+                request.getKey().cancel(true);
+            }
+        }
+    }
+
+    /**
+     * End the session and close the connection.
+     */
+    public void close() {
+        if (this.server != null) {
+            try {
+                this.server.shutdown().get(CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                this.server.exit();
+            } catch (ExecutionException | TimeoutException e) {
+                // Closing the connection ends the session regardless
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                // Ignore, the session is terminating
+            }
+        }
+    }
+
+    private void keystroke(int typed) {
+        String text = this.statement.substring(0, typed);
+        this.changeDocument(this.head + INDENT + text + "\n" + this.tail);
+        this.report.recordKeystroke();
+
+        TextDocumentService service = this.server.getTextDocumentService();
+        Position cursor = new Position(EDIT_LINE, INDENT.length() + typed);
+        char typedChar = text.charAt(typed - 1);
+        if (Character.isJavaIdentifierPart(typedChar) || typedChar == '.') {
+            this.track("textDocument/completion", service.completion(new CompletionParams(this.document, cursor)));
+        }
+        if (typedChar == '(' || typedChar == ',') {
+            this.track("textDocument/signatureHelp",
+                    service.signatureHelp(new SignatureHelpParams(this.document, cursor)));
+        }
+        if (typed % HOVER_KEYSTROKES == 0) {
+            Position hovered = new Position(EDIT_LINE, INDENT.length() + typed - 1);
+            this.track("textDocument/hover", service.hover(new HoverParams(this.document, hovered)));
+        }
+    }
+
+    private void references() {
+        Position position = new Position(FixtureGenerator.REFERENCE_LINE, FixtureGenerator.REFERENCE_CHARACTER);
+        this.track("textDocument/references", this.server.getTextDocumentService()
+                .references(new ReferenceParams(this.document, position, new ReferenceContext(true))));
+    }
+
+    private void rename() {
+        // The returned edits are not applied, hence the document remains the same
+        Position position = new Position(FixtureGenerator.REFERENCE_LINE, FixtureGenerator.REFERENCE_CHARACTER);
+        this.track("textDocument/rename", this.server.getTextDocumentService()
+                .rename(new RenameParams(this.document, position, "renamed" + this.fileIndex)));
+    }
+
+    private void changeDocument(String content) {
+        this.version++;
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(this.document.getUri(), this.version);
+        this.server.getTextDocumentService().didChange(new DidChangeTextDocumentParams(identifier,
+                Collections.singletonList(new TextDocumentContentChangeEvent(content))));
+    }
+
+    private void track(String method, CompletableFuture<?> request) {
+        long sentAt = System.nanoTime();
+        this.pendingRequests.put(request, method);
+        request.whenComplete((result, throwable) -> {
+            if (this.pendingRequests.remove(request) != null) {
+                long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt);
+                this.report.recordResponse(method, latency, getStatus(throwable));
+            }
+        });
+    }
+
+    private static LoadReport.ResponseStatus getStatus(Throwable throwable) {
+        if (throwable == null) {
+            return LoadReport.ResponseStatus.SUCCEEDED;
+        }
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof ResponseErrorException && ((ResponseErrorException) cause).getResponseError().getCode()
+                == ResponseErrorCode.ContentModified.getValue()) {
+            return LoadReport.ResponseStatus.STALE;
+        }
+
+        return LoadReport.ResponseStatus.FAILED;
+    }
+
+    /**
+     * Sleep for a random duration around the given mean, since the keystrokes are not evenly spaced.
+     */
+    private void pause(long meanNanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep((long) (meanNanos * (0.5 + this.random.nextDouble())));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.replay;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.lspandimpl.server.core.BalLanguageServer;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Raw JSON-RPC connection to an in-process {@link BalLanguageServer}.
+ * <p>
+ * The messages are exchanged as JSON text, so that a recorded session can be sent as is. The connection acts as a
+ * stub language client, answering every request of the server with an empty result.
+ *
+ * @since 1.0.0
+ */
+public class InProcessConnection {
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length: ";
+
+    private final OutputStream toServer;
+    private final InputStream fromServer;
+
+    private InProcessConnection(OutputStream toServer, InputStream fromServer) {
+        this.toServer = toServer;
+        this.fromServer = fromServer;
+    }
+
+    /**
+     * Start a language server connected to the returned connection.
+     *
+     * @param responseHandler handles the responses of the server, on the reader thread
+     * @return {@link InProcessConnection} started connection
+     * @throws IOException if the pipes cannot be opened
+     */
+    public static InProcessConnection start(Consumer<JsonObject> responseHandler) throws IOException {
+        // Channel pipes are used, since the piped streams fail once the thread which last wrote terminates
+        Pipe clientToServer = Pipe.open();
+        Pipe serverToClient = Pipe.open();
+        BalLanguageServer server = new BalLanguageServer(exitCode -> {
+        });
+        Launcher<LanguageClient> launcher = LSPLauncher.createServerLauncher(server,
+                Channels.newInputStream(clientToServer.source()), Channels.newOutputStream(serverToClient.sink()));
+        server.connect(launcher.getRemoteProxy());
+        launcher.startListening();
+
+        InProcessConnection connection = new InProcessConnection(Channels.newOutputStream(clientToServer.sink()),
+                Channels.newInputStream(serverToClient.source()));
+        Thread reader = new Thread(() -> connection.readMessages(responseHandler), "replay-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        return connection;
+    }
+
+    /**
+     * Send a message to the server.
+     *
+     * @param message JSON-RPC message
+     * @throws IOException if the server has terminated
+     */
+    public synchronized void send(String message) throws IOException {
+        byte[] content = message.getBytes(StandardCharsets.UTF_8);
+        this.toServer.write((CONTENT_LENGTH_HEADER + content.length + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        this.toServer.write(content);
+        this.toServer.flush();
+    }
+
+    private void readMessages(Consumer<JsonObject> responseHandler) {
+        try {
+            while (true) {
+                JsonObject message = JsonParser.parseString(this.readMessage()).getAsJsonObject();
+                if (!message.has("id")) {
+                    // Notifications of the server are not tracked
+                    continue;
+                }
+                if (message.has("method")) {
+                    // Request of the server to the client
+                    this.send("{\"jsonrpc\":\"2.0\",\"id\":" + message.get("id") + ",\"result\":null}");
+                } else {
+                    responseHandler.accept(message);
+                }
+            }
+        } catch (IOException e) {
+            // Server has terminated
+        }
+    }
+
+    private String readMessage() throws IOException {
+        int contentLength = -1;
+        String header;
+        while (!(header = this.readLine()).isEmpty()) {
+            if (header.startsWith(CONTENT_LENGTH_HEADER)) {
+                contentLength = Integer.parseInt(header.substring(CONTENT_LENGTH_HEADER.length()).trim());
+            }
+        }
+        byte[] content = this.fromServer.readNBytes(contentLength);
+        if (content.length < contentLength) {
+            throw new EOFException();
+        }
+
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = this.fromServer.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.replay;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency percentiles, late and dropped responses of the replayed requests, per method.
+ *
+ * @since 1.0.0
+ */
+public class LatencyReport {
+    private final Map<String, MethodReport> methods = new TreeMap<>();
+
+    public synchronized void recordResponse(String method, long latencyMs, boolean late) {
+        MethodReport report = this.methods.computeIfAbsent(method, key -> new MethodReport());
+        report.latencies.add(latencyMs);
+        if (late) {
+            report.late++;
+        }
+    }
+
+    public synchronized void recordDropped(String method) {
+        this.methods.computeIfAbsent(method, key -> new MethodReport()).dropped++;
+    }
+
+    public synchronized void print(PrintStream out) {
+        out.printf("%-40s %8s %10s %10s %10s %8s %8s%n", "method", "count", "p50(ms)", "p99(ms)", "max(ms)", "late",
+                "dropped");
+        this.methods.forEach((method, report) -> {
+            List<Long> latencies = new ArrayList<>(report.latencies);
+            Collections.sort(latencies);
+            out.printf("%-40s %8d %10d %10d %10d %8d %8d%n", method, latencies.size(), percentile(latencies, 0.5),
+                    percentile(latencies, 0.99), percentile(latencies, 1.0), report.late, report.dropped);
+        });
+    }
+
+    private static long percentile(List<Long> sortedLatencies, double percentile) {
+        if (sortedLatencies.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sortedLatencies.size() * percentile) - 1;
+
+        return sortedLatencies.get(Math.max(0, index));
+    }
+
+    private static class MethodReport {
+        private final List<Long> latencies = new ArrayList<>();
+        private int late = 0;
+        private int dropped = 0;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.replay;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a session recorded by the launchers (see {@code ls.trace.file}) against an in-process language server.
+ * <p>
+ * The client messages of the trace are sent at their recorded times, scaled by the speed multiplier, and the
+ * latency of each request is reported per method. A response is late when it takes more than twice the latency
+ * recorded in the trace plus a margin of 10 ms, which keeps the scheduling noise of the requests recorded with near
+ * zero latencies from being reported as late. A response is dropped when it does not arrive before the timeout
+ * after the last message.
+ * <p>
+ * Usage: {@code TraceReplay <trace file> [--speed <multiplier>] [--timeout <seconds>] [--map <from>=<to>]}.
+ * A speed of 0 sends the messages without delays. The map option rewrites the recorded text, e.g. the workspace
+ * root, when the session is replayed on another machine.
+ *
+ * @since 1.0.0
+ */
+public class TraceReplay {
+    private static final String DIRECTION_IN = "in";
+    private static final long LATE_MARGIN_MS = 10;
+
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final LatencyReport report = new LatencyReport();
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            System.err.println("Usage: TraceReplay <trace file> [--speed <multiplier>] [--timeout <seconds>] "
+                    + "[--map <from>=<to>]");
+            System.exit(1);
+        }
+        double speed = 1.0;
+        long timeoutSeconds = 30;
+        Map<String, String> replacements = new LinkedHashMap<>();
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--speed":
+                    speed = Double.parseDouble(args[i + 1]);
+                    break;
+                case "--timeout":
+                    timeoutSeconds = Long.parseLong(args[i + 1]);
+                    break;
+                case "--map":
+                    String[] mapping = args[i + 1].split("=", 2);
+                    replacements.put(mapping[0], mapping[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        TraceReplay replay = new TraceReplay();
+        replay.replay(Paths.get(args[0]), speed, timeoutSeconds, replacements);
+        replay.report.print(System.out);
+        // Threads of the in-process server do not terminate on their own
+        System.exit(0);
+    }
+
+    private void replay(Path traceFile, double speed, long timeoutSeconds, Map<String, String> replacements)
+            throws IOException, InterruptedException {
+        List<TraceEntry> entries = readTrace(traceFile, replacements);
+        InProcessConnection connection = InProcessConnection.start(this::responseReceived);
+        long start = System.nanoTime();
+        for (TraceEntry entry : entries) {
+            if (speed > 0) {
+                long sendAt = start + TimeUnit.MILLISECONDS.toNanos((long) (entry.time / speed));
+                long delay = sendAt - System.nanoTime();
+                if (delay > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                }
+            }
+            if (entry.method != null && entry.id != null) {
+                this.pendingRequests.put(entry.id, new PendingRequest(entry.method, System.nanoTime(),
+                        entry.recordedLatency));
+            }
+            connection.send(entry.message);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!this.pendingRequests.isEmpty() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        this.pendingRequests.values().forEach(request -> this.report.recordDropped(request.method));
+    }
+
+    private void responseReceived(JsonObject response) {
+        JsonElement id = response.get("id");
+        if (id == null || id.isJsonNull()) {
+            // Error responses to the messages which could not be parsed do not carry the id
+            return;
+        }
+        PendingRequest request = this.pendingRequests.remove(id.toString());
+        if (request == null) {
+            return;
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.sentAt);
+        boolean late = request.recordedLatency >= 0 && latency > 2 * request.recordedLatency + LATE_MARGIN_MS;
+        this.report.recordResponse(request.method, latency, late);
+    }
+
+    /**
+     * Read the client messages of the trace, with the latencies of the requests recorded in the trace.
+     */
+    private static List<TraceEntry> readTrace(Path traceFile, Map<String, String> replacements)
+            throws IOException {
+        List<TraceEntry> entries = new ArrayList<>();
+        Map<String, TraceEntry> requests = new HashMap<>();
+        for (String line : Files.readAllLines(traceFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+                line = line.replace(replacement.getKey(), replacement.getValue());
+            }
+            JsonObject traceLine = JsonParser.parseString(line).getAsJsonObject();
+            long time = traceLine.get("time").getAsLong();
+            JsonObject message = traceLine.getAsJsonObject("message");
+            JsonElement id = message.get("id");
+            if (id != null && id.isJsonNull()) {
+                id = null;
+            }
+            if (!DIRECTION_IN.equals(traceLine.get("direction").getAsString())) {
+                // Response of the recorded session gives the expected latency of the request
+                TraceEntry request = id == null || message.has("method") ? null : requests.get(id.toString());
+                if (request != null) {
+                    request.recordedLatency = time - request.time;
+                }
+                continue;
+            }
+            if (!message.has("method")) {
+                // Responses of the recorded client are answered by the stub client instead
+                continue;
+            }
+            TraceEntry entry = new TraceEntry(time, message.get("method").getAsString(),
+                    id == null ? null : id.toString(), message.toString());
+            entries.add(entry);
+            if (entry.id != null) {
+                requests.put(entry.id, entry);
+            }
+        }
+
+        return entries;
+    }
+
+    private static class TraceEntry {
+        private final long time;
+        private final String method;
+        private final String id;
+        private final String message;
+        private long recordedLatency = -1;
+
+        private TraceEntry(long time, String method, String id, String message) {
+            this.time = time;
+            this.method = method;
+            this.id = id;
+            this.message = message;
+        }
+    }
+
+    private static class PendingRequest {
+        private final String method;
+        private final long sentAt;
+        private final long recordedLatency;
+
+        private PendingRequest(String method, long sentAt, long recordedLatency) {
+            this.method = method;
+            this.sentAt = sentAt;
+            this.recordedLatency = recordedLatency;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.benchmarks.startup;
+
+import com.lspandimpl.server.benchmarks.BenchmarkWorkspace;
+import com.lspandimpl.server.benchmarks.FixtureGenerator;
+import com.lspandimpl.server.benchmarks.NoopLanguageClient;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializedParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Measures the startup of the stdio launcher in a new JVM, with and without the AppCDS archive of the launchers.
+ * <p>
+ * Each iteration starts the server process, sends the initialize request right away and opens a file of a generated
+ * package after the response. The time from starting the process to the initialize response and to the first
+ * diagnostics is reported.
+ * <p>
+ * Usage: {@code StartupBenchmark --jar <uber jar> [--archive <shared archive>] [--java <java executable>]
+ * [--ballerina-home <path>] [--iterations <n>] [--files <n>]}. The archive configuration is skipped when the archive
+ * does not exist. The archive is only mapped by the JVM build it was created with, hence the java executable should
+ * be the one given to the cdsArchive task of the launchers.
+ *
+ * @since 1.0.0
+ */
+public class StartupBenchmark {
+    private static final String LAUNCHER_CLASS = "com.lspandimpl.launcher.stdio.StdioLauncher";
+    private static final long TIMEOUT_SECONDS = 120;
+
+    public static void main(String[] args) throws Exception {
+        Path jar = null;
+        Path archive = null;
+        String java = "java";
+        String ballerinaHome = null;
+        int iterations = 5;
+        int files = 10;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--jar":
+                    jar = Paths.get(args[i + 1]);
+                    break;
+                case "--archive":
+                    archive = Paths.get(args[i + 1]);
+                    break;
+                case "--java":
+                    java = args[i + 1];
+                    break;
+                case "--ballerina-home":
+                    ballerinaHome = args[i + 1];
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--files":
+                    files = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (jar == null) {
+            System.err.println("Usage: StartupBenchmark --jar <uber jar> [--archive <shared archive>] "
+                    + "[--java <java executable>] [--ballerina-home <path>] [--iterations <n>] [--files <n>]");
+            System.exit(1);
+        }
+
+        List<String> launchCommand = new ArrayList<>();
+        launchCommand.add(java);
+        if (ballerinaHome != null) {
+            launchCommand.add("-Dballerina.home=" + ballerinaHome);
+        }
+        launchCommand.addAll(Arrays.asList("-cp", jar.toString()));
+
+        Path projectRoot = Files.createTempDirectory("ls-startup");
+        try {
+            FixtureGenerator.generate(projectRoot, files);
+            System.out.printf("%-10s %22s %22s%n", "config", "initialize(ms)", "diagnostics(ms)");
+            System.out.printf("%-10s %22s %22s%n", "", "min/median/max", "min/median/max");
+            run("default", launchCommand, projectRoot, iterations, "-Xshare:auto");
+            if (archive != null && Files.exists(archive)) {
+                run("appcds", launchCommand, projectRoot, iterations, "-Xshare:auto", "-XX:SharedArchiveFile=" + archive);
+            } else {
+                System.out.println("No shared archive, create it with the cdsArchive task of the launchers");
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(projectRoot)) {
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        }
+        // Threads of the client connections do not terminate on their own
+        System.exit(0);
+    }
+
+    private static void run(String config, List<String> launchCommand, Path projectRoot, int iterations,
+                            String... jvmArgs)
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        long[] initialize = new long[iterations];
+        long[] diagnostics = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long[] result = startServer(launchCommand, projectRoot, jvmArgs);
+            initialize[i] = result[0];
+            diagnostics[i] = result[1];
+        }
+        System.out.printf("%-10s %22s %22s%n", config, summary(initialize), summary(diagnostics));
+    }
+
+    /**
+     * Start the server and measure the time to the initialize response and to the first diagnostics.
+     *
+     * @return milliseconds to the initialize response and to the diagnostics
+     */
+    private static long[] startServer(List<String> launchCommand, Path projectRoot, String... jvmArgs)
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        List<String> command = new ArrayList<>(launchCommand);
+        command.addAll(Arrays.asList(jvmArgs));
+        command.add(LAUNCHER_CLASS);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            DiagnosticsClient client = new DiagnosticsClient();
+            Launcher<LanguageServer> launcher = LSPLauncher.createClientLauncher(client, process.getInputStream(),
+                    process.getOutputStream());
+            launcher.startListening();
+            LanguageServer server = launcher.getRemoteProxy();
+
+            InitializeParams initializeParams = new InitializeParams();
+            initializeParams.setRootUri(projectRoot.toUri().toString());
+            initializeParams.setCapabilities(BenchmarkWorkspace.getClientCapabilities());
+            server.initialize(initializeParams).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            long initialized = System.nanoTime();
+            server.initialized(new InitializedParams());
+
+            String uri = projectRoot.resolve(FixtureGenerator.fileName(0)).toUri().toString();
+            server.getTextDocumentService().didOpen(new DidOpenTextDocumentParams(
+                    new TextDocumentItem(uri, "ballerina", 1, FixtureGenerator.source(0))));
+            client.diagnostics.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            long diagnosed = System.nanoTime();
+
+            server.shutdown().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            server.exit();
+            process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            return new long[]{TimeUnit.NANOSECONDS.toMillis(initialized - start),
+                    TimeUnit.NANOSECONDS.toMillis(diagnosed - start)};
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private static String summary(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        return sorted[0] + "/" + sorted[sorted.length / 2] + "/" + sorted[sorted.length - 1];
+    }
+
+    /**
+     * Language client which signals the first diagnostics of the server.
+     */
+    private static class DiagnosticsClient extends NoopLanguageClient {
+        private final CompletableFuture<PublishDiagnosticsParams> diagnostics = new CompletableFuture<>();
+
+        @Override
+        public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+            this.diagnostics.complete(diagnostics);
+        }
+    }
+}
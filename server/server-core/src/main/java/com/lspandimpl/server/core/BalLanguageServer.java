@@ -36,14 +36,21 @@ import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageClientAware;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4j.services.WorkspaceService;
+import com.lspandimpl.server.ballerina.compiler.workspace.CompilerManager;
+import com.lspandimpl.server.core.compiler.manager.BallerinaCompilerManager;
+import com.lspandimpl.server.core.docsync.DocumentRequestSequencer;
+import com.lspandimpl.server.core.extensions.services.metrics.MetricsService;
+import com.lspandimpl.server.core.extensions.services.metrics.impl.MetricsServiceImpl;
 import com.lspandimpl.server.core.extensions.services.parser.BallerinaParserService;
 import com.lspandimpl.server.core.extensions.services.parser.impl.BallerinaParserServiceImpl;
+import com.lspandimpl.server.core.metrics.ServerMetrics;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
 
 /**
  * Language server implementation for ballerina.
@@ -55,16 +62,28 @@ public class BalLanguageServer implements BalExtendedLanguageServer, LanguageCli
     private final WorkspaceService workspaceService;
     private final BallerinaLSContext serverContext;
     private LanguageClient client;
-    private DynamicCapabilitySetter dynamicCapabilitySetter;
     private BallerinaParserService parserService;
+    private final MetricsService metricsService;
+    private final IntConsumer exitHandler;
     private boolean shutdownInitiated = false;
 
     public BalLanguageServer() {
+        this(System::exit);
+    }
+
+    /**
+     * Create a language server with a custom exit handler.
+     * When multiple sessions are hosted in the same process, the handler closes the session instead of the process.
+     *
+     * @param exitHandler handler accepting the exit code upon the exit notification
+     */
+    public BalLanguageServer(IntConsumer exitHandler) {
+        this.exitHandler = exitHandler;
         this.serverContext = new BallerinaLSContext();
         this.textDocumentService = new BalTextDocumentService(this.serverContext);
         this.workspaceService = new BalWorkspaceService(this.serverContext);
-        this.dynamicCapabilitySetter = DynamicCapabilitySetter.getInstance(this.serverContext);
         this.parserService = new BallerinaParserServiceImpl(this.serverContext);
+        this.metricsService = new MetricsServiceImpl(this.serverContext);
     }
 
     @Override
@@ -121,8 +140,9 @@ public class BalLanguageServer implements BalExtendedLanguageServer, LanguageCli
         messageParams.setType(MessageType.Info);
         // Registering the onTypeFormatting capability.
         // If enable the following, comment out the ontype formatting in the initialize method
-        this.dynamicCapabilitySetter.registerOnTypeFormatting(this.serverContext);
-        this.dynamicCapabilitySetter.registerTextDocumentSyncOptions(serverContext);
+        DynamicCapabilitySetter dynamicCapabilitySetter = DynamicCapabilitySetter.getInstance(this.serverContext);
+        dynamicCapabilitySetter.registerOnTypeFormatting(this.serverContext);
+        dynamicCapabilitySetter.registerTextDocumentSyncOptions(serverContext);
         this.client.showMessage(messageParams);
 
         // Register file watchers
@@ -145,6 +165,7 @@ public class BalLanguageServer implements BalExtendedLanguageServer, LanguageCli
     @Override
     public CompletableFuture<Object> shutdown() {
         this.shutdownInitiated = true;
+        BallerinaCompilerManager.getIfCreated(this.serverContext).ifPresent(CompilerManager::releaseProjects);
 
         return CompletableFuture.supplyAsync(Object::new);
     }
@@ -153,10 +174,10 @@ public class BalLanguageServer implements BalExtendedLanguageServer, LanguageCli
     public void exit() {
         // the flag is true when the client sends the shutdown request
         // Gracefully exit server process
-        if (this.shutdownInitiated) {
-            System.exit(0);
-        }
-        System.exit(1);
+        BallerinaCompilerManager.getIfCreated(this.serverContext).ifPresent(CompilerManager::releaseProjects);
+        DocumentRequestSequencer.getInstance(this.serverContext).close();
+        ServerMetrics.getInstance(this.serverContext).close();
+        this.exitHandler.accept(this.shutdownInitiated ? 0 : 1);
     }
 
     @Override
@@ -179,4 +200,18 @@ public class BalLanguageServer implements BalExtendedLanguageServer, LanguageCli
     public BallerinaParserService getBallerinaParserService() {
         return null;
     }
+
+    @Override
+    public MetricsService getMetricsService() {
+        return this.metricsService;
+    }
+
+    /**
+     * Get the metrics of the session, which are recorded by the launcher at the message level.
+     *
+     * @return {@link ServerMetrics} metrics of the session
+     */
+    public ServerMetrics getServerMetrics() {
+        return ServerMetrics.getInstance(this.serverContext);
+    }
 }
@@ -49,8 +49,11 @@ import com.lspandimpl.server.core.completion.BalCompletionRouter;
 import com.lspandimpl.server.core.completion.CompletionItemResolver;
 import com.lspandimpl.server.core.contexts.ContextBuilder;
 import com.lspandimpl.server.core.definition.DefinitionProvider;
+import com.lspandimpl.server.core.diagnostics.DiagnosticIndex;
 import com.lspandimpl.server.core.docsymbol.DocumentSymbolProvider;
 import com.lspandimpl.server.core.docsync.BaseDocumentSyncHandler;
+import com.lspandimpl.server.core.docsync.DocumentRequestSequencer;
+import com.lspandimpl.server.core.docsync.DocumentResponseCache;
 import com.lspandimpl.server.core.docsync.DocumentSyncHandler;
 import com.lspandimpl.server.core.documentlink.DocumentLinkProvider;
 import com.lspandimpl.server.core.foldingrange.FoldingRangeProvider;
@@ -107,7 +110,6 @@ import org.eclipse.lsp4j.LinkedEditingRangeParams;
 import org.eclipse.lsp4j.LinkedEditingRanges;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
-import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PrepareRenameParams;
 import org.eclipse.lsp4j.PrepareRenameResult;
 import org.eclipse.lsp4j.Range;
@@ -132,6 +134,8 @@ import org.eclipse.lsp4j.services.TextDocumentService;
 import com.lspandimpl.server.api.context.BalSelectionRangeContext;
 import com.lspandimpl.server.api.context.BalSemanticTokenContext;
 import com.lspandimpl.server.core.doccolour.DocumentColourProvider;
+import com.lspandimpl.server.core.outline.DocumentOutline;
+import com.lspandimpl.server.core.outline.DocumentOutlineCache;
 import com.lspandimpl.server.core.references.ReferencesProvider;
 import com.lspandimpl.server.core.rename.RenameProvider;
 import com.lspandimpl.server.core.selectionrange.SelectionRangeProvider;
@@ -150,72 +154,99 @@ import java.util.concurrent.CompletableFuture;
  */
 public class BalTextDocumentService implements TextDocumentService {
     private final DocumentSyncHandler documentSyncHandler;
+    private final DocumentRequestSequencer requestSequencer;
+    private final DocumentResponseCache responseCache;
+    private final DocumentOutlineCache outlineCache;
     private final LSContext serverContext;
 
     public BalTextDocumentService(LSContext serverContext) {
         this.serverContext = serverContext;
         this.documentSyncHandler = new BaseDocumentSyncHandler(serverContext);
+        this.requestSequencer = DocumentRequestSequencer.getInstance(serverContext);
+        this.responseCache = DocumentResponseCache.getInstance(serverContext);
+        this.outlineCache = DocumentOutlineCache.getInstance(serverContext);
     }
 
     @Override
     public void didOpen(DidOpenTextDocumentParams params) {
-        Path uriPath = CommonUtils.uriToPath(params.getTextDocument().getUri());
-        BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
-        CompilerManager compilerManager = context.compilerManager();
-        if (uriPath.toFile().getName().endsWith(".txt")) {
-            // Here we notify that we have opened a .txt document.
-            // If the server needs special handling the implementation can navigate to the
-            // relevant handler from this point
-            context.clientLogManager().showInfoMessage("Document opened with `.txt` extension");
-            return;
-        }
-        Optional<Project> projectForPath = compilerManager.getProject(uriPath);
-        /*
-        If the project already exists in the compiler manager that means
-        we have sent the diagnostics for the project earlier.
-        Hence we do not need to publish the diagnostics again.
-        This will save a significant number of `publishDiagnostic` calls
-        for projects with a many files
-         */
-        if (projectForPath.isEmpty()) {
-            Optional<Project> project = this.documentSyncHandler.didOpen(params, context);
-            project.ifPresent(prj -> context.diagnosticPublisher().publish(context, uriPath));
-        }
+        String uri = params.getTextDocument().getUri();
+        this.requestSequencer.open(uri);
+        Runnable parse = () -> this.parseDocument(uri, params.getTextDocument().getText());
+        this.write(uri, params.getTextDocument().getVersion(), parse, () -> {
+            Path uriPath = CommonUtils.uriToPath(uri);
+            BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
+            CompilerManager compilerManager = context.compilerManager();
+            if (uriPath.toFile().getName().endsWith(".txt")) {
+                // Here we notify that we have opened a .txt document.
+                // If the server needs special handling the implementation can navigate to the
+                // relevant handler from this point
+                context.clientLogManager().showInfoMessage("Document opened with `.txt` extension");
+                return;
+            }
+            Optional<Project> projectForPath = compilerManager.getProject(uriPath);
+            /*
+            If the project already exists in the compiler manager that means
+            we have sent the diagnostics for the project earlier.
+            Hence we do not need to publish the diagnostics again.
+            This will save a significant number of `publishDiagnostic` calls
+            for projects with a many files
+             */
+            if (projectForPath.isEmpty()) {
+                Optional<Project> project = this.documentSyncHandler.didOpen(params, context);
+                project.ifPresent(prj -> context.diagnosticPublisher().publish(context, uriPath));
+            }
+        });
     }
 
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
-        BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
-        Path uriPath = CommonUtils.uriToPath(params.getTextDocument().getUri());
-        if (uriPath.toFile().getName().endsWith(".txt")) {
-            // Here we notify that we have changed a .txt document.
-            // If the server needs special handling the implementation can navigate to the
-            // relevant handler from this point
-            context.clientLogManager().showInfoMessage("Document change event for a document with `.txt` extension");
-            return;
-        }
-        Optional<Project> project = this.documentSyncHandler.didChange(params, context);
-        Path pathUri = CommonUtils.uriToPath(params.getTextDocument().getUri());
-        /*
-         Publish the diagnostics upon the changes of the document.
-         Even this is a single file change, the semantics can 
-         affect the whole project. Therefore we have to publish the 
-         diagnostics for the whole project.
-         */
-        project.ifPresent(prj -> context.diagnosticPublisher().publish(context, pathUri));
+        String uri = params.getTextDocument().getUri();
+        // Document sync mode is FULL, hence the first change holds the whole content
+        Runnable parse = () -> this.parseDocument(uri, params.getContentChanges().get(0).getText());
+        this.write(uri, params.getTextDocument().getVersion(), parse, () -> {
+            BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
+            Path uriPath = CommonUtils.uriToPath(uri);
+            if (uriPath.toFile().getName().endsWith(".txt")) {
+                // Here we notify that we have changed a .txt document.
+                // If the server needs special handling the implementation can navigate to the
+                // relevant handler from this point
+                context.clientLogManager()
+                        .showInfoMessage("Document change event for a document with `.txt` extension");
+                return;
+            }
+            Optional<Project> project = this.documentSyncHandler.didChange(params, context);
+            /*
+             Publish the diagnostics upon the changes of the document.
+             Even this is a single file change, the semantics can 
+             affect the whole project. Therefore we have to publish the 
+             diagnostics for the whole project.
+             */
+            project.ifPresent(prj -> context.diagnosticPublisher().publish(context, uriPath));
+        });
     }
 
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
         String uri = params.getTextDocument().getUri();
         Path path = CommonUtils.uriToPath(uri);
-        BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
-        CompilerManager compilerManager = context.compilerManager();
-        Project project = compilerManager.getProject(path).orElseThrow();
+        Runnable discard = () -> {
+            ContextBuilder.baseContext(this.serverContext).compilerManager().discardParsedDocument(path);
+            this.outlineCache.invalidate(path);
+        };
+        int version = this.requestSequencer.getVersion(uri);
+        int generation = this.requestSequencer.getGeneration(uri);
+        this.write(uri, version, discard, () -> {
+            // The document may have been reopened while the close was pending
+            this.requestSequencer.remove(uri, generation);
+            BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
+            // The project is absent if the document was closed before the project was loaded or if loading failed
+            Optional<Project> project = context.compilerManager().getProject(path);
 
-        if (project.kind() == ProjectKind.SINGLE_FILE_PROJECT) {
-            this.documentSyncHandler.didClose(params, context);
-        }
+            if (project.isPresent() && project.get().kind() == ProjectKind.SINGLE_FILE_PROJECT) {
+                this.documentSyncHandler.didClose(params, context);
+                DiagnosticIndex.getInstance(this.serverContext).remove(project.get().sourceRoot());
+            }
+        });
     }
 
     @Override
@@ -226,7 +257,7 @@ public class BalTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<List<TextEdit>>
     willSaveWaitUntil(WillSaveTextDocumentParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/willSaveWaitUntil", params.getTextDocument().getUri(), () -> {
             BaseOperationContext context =
                     ContextBuilder.baseContext(this.serverContext);
             ClientCapabilities clientCapabilities =
@@ -249,7 +280,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Hover> hover(HoverParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/hover", params.getTextDocument().getUri(), () -> {
             try {
                 BalHoverContext context = ContextBuilder.getHoverContext(this.serverContext, params);
                 ContextEvaluator.fillTokenInfoAtCursor(context);
@@ -262,9 +293,9 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/completion", params.getTextDocument().getUri(), () -> {
             BalCompletionContext context = ContextBuilder.completionContext(this.serverContext, params);
-            return Either.forLeft(BalCompletionRouter.compute(context));
+            return Either.forRight(BalCompletionRouter.compute(context));
         });
     }
 
@@ -281,7 +312,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SignatureHelp> signatureHelp(SignatureHelpParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/signatureHelp", params.getTextDocument().getUri(), () -> {
             BalSignatureContext context = ContextBuilder.getSignatureContext(serverContext, params);
             ContextEvaluator.fillTokenInfoAtCursor(context);
 
@@ -291,7 +322,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<WorkspaceEdit> rename(RenameParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/rename", params.getTextDocument().getUri(), () -> {
             BalRenameContext context = ContextBuilder.renameContext(this.serverContext, params);
             return RenameProvider.getRename(context);
         });
@@ -299,7 +330,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<Range, PrepareRenameResult>> prepareRename(PrepareRenameParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/prepareRename", params.getTextDocument().getUri(), () -> {
             BalPrepareRenameContext context = ContextBuilder.prepareRenameContext(this.serverContext, params);
             ContextEvaluator.fillTokenInfoAtCursor(context);
             PrepareRenameResult renameResult = RenameProvider.prepareRename(context);
@@ -314,47 +345,54 @@ public class BalTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
         BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
-        return CompletableFuture.supplyAsync(() -> FormatProvider.format(context, params));
+        String uri = params.getTextDocument().getUri();
+        return this.requestSequencer.readSyntax("textDocument/formatting", uri,
+                () -> FormatProvider.format(context, params));
     }
 
     @Override
     public CompletableFuture<List<? extends TextEdit>> rangeFormatting(DocumentRangeFormattingParams params) {
         BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
-        return CompletableFuture.supplyAsync(() -> FormatProvider.formatRange(context, params));
+        String uri = params.getTextDocument().getUri();
+        return this.requestSequencer.readSyntax("textDocument/rangeFormatting", uri,
+                () -> FormatProvider.formatRange(context, params));
     }
 
     @Override
     public CompletableFuture<List<? extends TextEdit>> onTypeFormatting(DocumentOnTypeFormattingParams params) {
+        BaseOperationContext context = ContextBuilder.baseContext(this.serverContext);
         String uri = params.getTextDocument().getUri();
-        Position position = params.getPosition();
-        BalPosBasedContext context = ContextBuilder.getPosBasedContext(this.serverContext, uri, position);
-        ContextEvaluator.fillTokenInfoAtCursor(context);
-        return CompletableFuture.supplyAsync(() -> FormatProvider.onTypeFormat(context, params));
+        return this.requestSequencer.readSyntax("textDocument/onTypeFormatting", uri,
+                () -> FormatProvider.onTypeFormat(context, params));
     }
 
     @Override
     public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/codeAction", params.getTextDocument().getUri(), () -> {
             BalCodeActionContext context = ContextBuilder.getCodeActionContext(this.serverContext, params);
-            ContextEvaluator.fillTokenInfoAtCursor(context);
-            return CodeActionProvider.getCodeAction(context, params);
+            int version = this.requestSequencer.getVersion(params.getTextDocument().getUri());
+            return CodeActionProvider.getCodeAction(context, params, version);
         });
     }
 
     @Override
     public CompletableFuture<CodeAction> resolveCodeAction(CodeAction unresolved) {
-        return CompletableFuture.supplyAsync(() -> {
-            String uri = ((JsonObject) unresolved.getData()).get("uri").getAsString();
+        if (!(unresolved.getData() instanceof JsonObject) || !((JsonObject) unresolved.getData()).has("uri")) {
+            return CompletableFuture.completedFuture(unresolved);
+        }
+        String uri = ((JsonObject) unresolved.getData()).get("uri").getAsString();
+        // Edits are computed on the resolve, hence the request waits for the pending modifications of the document
+        return this.requestSequencer.read("codeAction/resolve", uri, () -> {
             BalTextDocumentContext context = ContextBuilder.getTextDocumentContext(this.serverContext, uri);
-            return CodeActionProvider.resolve(context, unresolved);
+            return CodeActionProvider.resolve(context, unresolved, this.requestSequencer.getVersion(uri));
         });
     }
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.responseCache.readSyntax("textDocument/codeLens", params.getTextDocument().getUri(), params, () -> {
             BalCodeLensContext context = ContextBuilder.getCodeLensContext(this.serverContext, params);
-            return CodeLensProvider.getCodeLenses(context, params);
+            return CodeLensProvider.getCodeLenses(context, params, this.getOutline(context, context.getPath()));
         });
     }
 
@@ -362,13 +400,14 @@ public class BalTextDocumentService implements TextDocumentService {
     public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
         BalReferencesContext context = ContextBuilder.getReferencesContext(this.serverContext, params);
 
-        return CompletableFuture.supplyAsync(() -> ReferencesProvider.references(context));
+        String uri = params.getTextDocument().getUri();
+        return this.requestSequencer.read("textDocument/references", uri, () -> ReferencesProvider.references(context));
     }
 
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>>
     definition(DefinitionParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/definition", params.getTextDocument().getUri(), () -> {
             BalDefinitionContext context = ContextBuilder.getDefinitionContext(this.serverContext, params);
             ContextEvaluator.fillTokenInfoAtCursor(context);
 //            if (this.serverContext.getClientCapabilities().get().getTextDocument().getDefinition().getLinkSupport()) {
@@ -382,7 +421,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> typeDefinition(TypeDefinitionParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/typeDefinition", params.getTextDocument().getUri(), () -> {
             BalTypeDefContext context = ContextBuilder.getTypeDefinitionContext(this.serverContext, params);
             ContextEvaluator.fillTokenInfoAtCursor(context);
             List<Location> definitions = DefinitionProvider.typeDefinition(context);
@@ -392,7 +431,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> implementation(ImplementationParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/implementation", params.getTextDocument().getUri(), () -> {
             try {
                 BalGotoImplContext context = ContextBuilder.getGotoImplContext(this.serverContext, params);
                 ContextEvaluator.fillTokenInfoAtCursor(context);
@@ -407,7 +446,7 @@ public class BalTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>>
     declaration(DeclarationParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/declaration", params.getTextDocument().getUri(), () -> {
            try {
                BalDeclarationContext context = ContextBuilder.getDeclarationContext(this.serverContext, params);
                ContextEvaluator.fillTokenInfoAtCursor(context);
@@ -423,16 +462,17 @@ public class BalTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>>
     documentSymbol(DocumentSymbolParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.responseCache.readSyntax("textDocument/documentSymbol", params.getTextDocument().getUri(), params, () -> {
             BalDocumentSymbolContext context = ContextBuilder.documentSymbolContext(this.serverContext, params);
-            // return DocumentSymbolProvider.getDocumentSymbol(context);
-            return DocumentSymbolProvider.getSymbolInformation(context);
+            DocumentOutline outline = this.getOutline(context, context.getPath());
+            // return DocumentSymbolProvider.getDocumentSymbol(context, outline);
+            return DocumentSymbolProvider.getSymbolInformation(context, outline);
         });
     }
 
     @Override
     public CompletableFuture<List<? extends DocumentHighlight>> documentHighlight(DocumentHighlightParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/documentHighlight", params.getTextDocument().getUri(), () -> {
             BalDocumentHighlightContext context = ContextBuilder.documentHighlightContext(this.serverContext, params);
             return DocumentHighlightProvider.getHighlight(context);
         });
@@ -440,9 +480,9 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<DocumentLink>> documentLink(DocumentLinkParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.responseCache.readSyntax("textDocument/documentLink", params.getTextDocument().getUri(), params, () -> {
             BalDocumentLinkContext context = ContextBuilder.documentLinkContext(this.serverContext, params);
-            return DocumentLinkProvider.getDocumentLink(context);
+            return DocumentLinkProvider.getDocumentLink(context, this.getOutline(context, context.getPath()));
         });
     }
 
@@ -456,7 +496,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<SelectionRange>> selectionRange(SelectionRangeParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.readSyntax("textDocument/selectionRange", params.getTextDocument().getUri(), () -> {
             BalSelectionRangeContext context = ContextBuilder.getSelectionRangeContext(this.serverContext, params);
             return SelectionRangeProvider.getSelectionRange(context);
         });
@@ -464,10 +504,10 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.readSyntax("textDocument/semanticTokens/full", params.getTextDocument().getUri(), () -> {
             BalSemanticTokenContext context = ContextBuilder.semanticTokensContext(this.serverContext, params);
 
-            return SemanticTokensProvider.getSemanticTokens(context);
+            return SemanticTokensProvider.getSemanticTokens(context, this.getOutline(context, context.getPath()));
         });
     }
 
@@ -478,16 +518,17 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.readSyntax("textDocument/semanticTokens/range", params.getTextDocument().getUri(), () -> {
             BalSemanticTokenRangeContext context = ContextBuilder.semanticTokensRangeContext(this.serverContext, params);
 
-            return SemanticTokensProvider.getSemanticTokensInRange(context);
+            return SemanticTokensProvider.getSemanticTokensInRange(context,
+                    this.getOutline(context, context.getPath()));
         });
     }
 
     @Override
     public CompletableFuture<LinkedEditingRanges> linkedEditingRange(LinkedEditingRangeParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/linkedEditingRange", params.getTextDocument().getUri(), () -> {
             BalLinkedEditingRangeContext context = ContextBuilder.getLinkedEditingRangeContext(this.serverContext, params);
             ContextEvaluator.fillTokenInfoAtCursor(context);
             return LinkedEditingRangeProvider.getLinkedEditingRanges(context);
@@ -497,7 +538,9 @@ public class BalTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<List<ColorInformation>> documentColor(DocumentColorParams params) {
         BalDocumentColourContext context = ContextBuilder.getColourContext(this.serverContext, params);
-        return CompletableFuture.supplyAsync(() -> DocumentColourProvider.getColours(context));
+        String uri = params.getTextDocument().getUri();
+        return this.responseCache.read("textDocument/documentColor", uri, params,
+                () -> DocumentColourProvider.getColours(context));
     }
 
     @Override
@@ -507,15 +550,15 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.responseCache.readSyntax("textDocument/foldingRange", params.getTextDocument().getUri(), params, () -> {
             BalFoldingRangeContext context = ContextBuilder.getFoldingRangeContext(this.serverContext, params);
-            return FoldingRangeProvider.getFoldingRanges(context);
+            return FoldingRangeProvider.getFoldingRanges(context, this.getOutline(context, context.getPath()));
         });
     }
 
     @Override
     public CompletableFuture<List<CallHierarchyItem>> prepareCallHierarchy(CallHierarchyPrepareParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("textDocument/prepareCallHierarchy", params.getTextDocument().getUri(), () -> {
             BalPosBasedContext context = ContextBuilder.getPosBasedContext(this.serverContext,
                     params.getTextDocument().getUri(), params.getPosition());
             return CallHierarchyProvider.prepare(context);
@@ -524,7 +567,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<CallHierarchyIncomingCall>> callHierarchyIncomingCalls(CallHierarchyIncomingCallsParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("callHierarchy/incomingCalls", params.getItem().getUri(), () -> {
             CallHierarchyItem item = params.getItem();
             BalPosBasedContext context = ContextBuilder.getPosBasedContext(this.serverContext,
                     item.getUri(), item.getRange().getStart());
@@ -535,7 +578,7 @@ public class BalTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<CallHierarchyOutgoingCall>> callHierarchyOutgoingCalls(CallHierarchyOutgoingCallsParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.requestSequencer.read("callHierarchy/outgoingCalls", params.getItem().getUri(), () -> {
             CallHierarchyItem item = params.getItem();
             BalCallHierarchyOutgoingContext context = ContextBuilder.getCallHierarchyOutGoingContext(this.serverContext,
                     item);
@@ -543,4 +586,30 @@ public class BalTextDocumentService implements TextDocumentService {
             return CallHierarchyProvider.outgoing(context);
         });
     }
+
+    /**
+     * Schedule a modification of the document, evicting the cached responses which the modification may change.
+     */
+    private void write(String uri, int version, Runnable syntaxTask, Runnable semanticTask) {
+        this.responseCache.invalidate(uri);
+        this.requestSequencer.write(uri, version, syntaxTask, semanticTask)
+                .whenComplete((result, throwable) -> this.responseCache.invalidate(uri));
+    }
+
+    /**
+     * Get the structural outline of the current syntax tree of the document, shared by the syntax based features.
+     */
+    private DocumentOutline getOutline(BaseOperationContext context, Path path) {
+        return this.outlineCache.getOutline(context.compilerManager(), path);
+    }
+
+    /**
+     * Parse the editor buffer, so that the syntax based features are served while the project is being loaded.
+     */
+    private void parseDocument(String uri, String content) {
+        Path path = CommonUtils.uriToPath(uri);
+        if (path.toFile().getName().endsWith(".bal")) {
+            ContextBuilder.baseContext(this.serverContext).compilerManager().parseDocument(path, content);
+        }
+    }
 }
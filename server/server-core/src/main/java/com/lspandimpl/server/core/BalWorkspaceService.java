@@ -18,14 +18,16 @@ package com.lspandimpl.server.core;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import com.lspandimpl.server.api.context.BalWorkspaceContext;
 import com.lspandimpl.server.api.context.LSContext;
 import com.lspandimpl.server.core.codeaction.BalCommand;
 import com.lspandimpl.server.core.codeaction.CommandArgument;
+import com.lspandimpl.server.core.completion.CompletionRelevanceRanker;
 import com.lspandimpl.server.core.configdidchange.ConfigurationHolderImpl;
 import com.lspandimpl.server.core.contexts.ContextBuilder;
+import com.lspandimpl.server.core.docsync.DocumentResponseCache;
 import com.lspandimpl.server.core.executecommand.AddDocsArgs;
-import com.lspandimpl.server.core.executecommand.CreateVariableArgs;
 import com.lspandimpl.server.core.fileevents.FileOperationEventsHandler;
 import com.lspandimpl.server.core.utils.CommonUtils;
 import com.lspandimpl.server.core.wsfolderchange.WSFolderChangeHandler;
@@ -124,6 +126,8 @@ public class BalWorkspaceService implements WorkspaceService {
             }
             // Reload the project
             context.compilerManager().reloadProject(projectRoot.get());
+            // Semantic responses of the documents in the project are no longer valid
+            DocumentResponseCache.getInstance(this.lsServerContext).invalidate(ballerinaTomlEvent.get().getUri());
             // Send codelens refresh request to client
             LanguageClient client = this.lsServerContext.getClient();
             client.refreshCodeLenses();
@@ -191,12 +195,13 @@ public class BalWorkspaceService implements WorkspaceService {
             BalWorkspaceContext context =
                     ContextBuilder.getWorkspaceContext(this.lsServerContext);
 
-            if (command.equals(BalCommand.CREATE_VAR.getCommand())) {
-                return applyCreateVarWorkspaceEdit(context, params);
-            }
             if (command.equals(BalCommand.ADD_DOC.getCommand())) {
                 return applyAddDocumentationWorkspaceEdit(context, params);
             }
+            if (command.equals(BalCommand.COMPLETION_ACCEPTED.getCommand())) {
+                recordAcceptedCompletion(params);
+                return null;
+            }
 
             // TODO: IMPLEMENT THE MOVE FUNCTION CODE ACTION WHICH CREATES A FILE
 
@@ -234,40 +239,13 @@ public class BalWorkspaceService implements WorkspaceService {
 
     }
 
-    private ApplyWorkspaceEditResponse
-    applyCreateVarWorkspaceEdit(BalWorkspaceContext context,
-                                ExecuteCommandParams params) {
-        JsonObject arg = (JsonObject) params.getArguments().get(0);
-        CommandArgument commandArg = new Gson().fromJson(arg, CommandArgument.class);
-        if (!commandArg.getKey().equals("params")) {
-            return null;
+    private void recordAcceptedCompletion(ExecuteCommandParams params) {
+        if (params.getArguments() == null || params.getArguments().isEmpty()) {
+            return;
         }
-        CreateVariableArgs createVarArgs = commandArg.getValue(CreateVariableArgs.class);
-        WorkspaceEdit workspaceEdit = new WorkspaceEdit();
-        TextDocumentEdit documentEdit = new TextDocumentEdit();
-        VersionedTextDocumentIdentifier identifier =
-                new VersionedTextDocumentIdentifier();
-        identifier.setUri(createVarArgs.getUri());
-        TextEdit textEdit = new TextEdit(createVarArgs.getRange(),
-                createVarArgs.getNewText());
-
-        documentEdit.setEdits(Collections.singletonList(textEdit));
-        documentEdit.setTextDocument(identifier);
-        Either<TextDocumentEdit, ResourceOperation> documentChanges =
-                Either.forLeft(documentEdit);
-        workspaceEdit.setDocumentChanges(Collections.singletonList(documentChanges));
-
-        ApplyWorkspaceEditParams applyEditParams = new ApplyWorkspaceEditParams();
-        applyEditParams.setEdit(workspaceEdit);
-        CompletableFuture<ApplyWorkspaceEditResponse> response =
-                context.getClient().applyEdit(applyEditParams);
-
-        try {
-            return response.get();
-        } catch (InterruptedException | ExecutionException e) {
-            // TODO: handle gracefully
-        }
-        return null;
+        Object name = params.getArguments().get(0);
+        CompletionRelevanceRanker.getInstance(this.lsServerContext)
+                .recordUsage(name instanceof JsonPrimitive ? ((JsonPrimitive) name).getAsString() : name.toString());
     }
 
     private ApplyWorkspaceEditResponse applyAddDocumentationWorkspaceEdit(BalWorkspaceContext context,
@@ -15,9 +15,14 @@
  */
 package com.lspandimpl.server.core;
 
+import com.lspandimpl.server.core.diagnostics.DiagnosticIndex;
+import com.lspandimpl.server.core.docsync.DocumentRequestSequencer;
+import com.lspandimpl.server.core.jfr.DiagnosticsPublishEvent;
+import com.lspandimpl.server.core.jfr.LinterEvent;
 import com.lspandimpl.server.core.utils.BallerinaLinter;
 import com.lspandimpl.server.core.utils.LinterDiagnostic;
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.text.LineRange;
@@ -52,6 +57,8 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DiagnosticsPublisherImpl implements DiagnosticsPublisher {
     private final LanguageClient client;
+    private final DocumentRequestSequencer requestSequencer;
+    private final DiagnosticIndex diagnosticIndex;
     private Map<String, List<Diagnostic>> previousDiagnostics = new ConcurrentHashMap<>();
     private static final LSContext.Key<DiagnosticsPublisher> DIAGNOSTICS_PUBLISHER_KEY = new LSContext.Key<>();
 
@@ -67,6 +74,8 @@ public class DiagnosticsPublisherImpl implements DiagnosticsPublisher {
     private DiagnosticsPublisherImpl(LSContext serverContext) {
         serverContext.put(DIAGNOSTICS_PUBLISHER_KEY, this);
         this.client = serverContext.getClient();
+        this.requestSequencer = DocumentRequestSequencer.getInstance(serverContext);
+        this.diagnosticIndex = DiagnosticIndex.getInstance(serverContext);
     }
 
     @Override
@@ -76,17 +85,29 @@ public class DiagnosticsPublisherImpl implements DiagnosticsPublisher {
         if (project.isEmpty()) {
             return;
         }
-        DiagnosticResult diagResult = project.get().currentPackage()
-                .getCompilation().diagnosticResult();
+        DiagnosticsPublishEvent publishEvent = new DiagnosticsPublishEvent();
+        publishEvent.begin();
+        Package currentPackage = project.get().currentPackage();
+        DiagnosticResult diagResult = context.compilerManager().getCompilation(path).orElseThrow().diagnosticResult();
+        // Code actions look up the compiler diagnostics from the index instead of compiling the module again
+        this.diagnosticIndex.update(project.get(), currentPackage, diagResult.diagnostics());
         Map<String, List<Diagnostic>> diagnostics = new HashMap<>();
         // Get the compiler generated diagnostics
         List<io.ballerina.tools.diagnostics.Diagnostic>
                 allDiagnostics = new ArrayList<>(diagResult.diagnostics());
         // Get the diagnostics from the linter
+        LinterEvent functionLinterEvent = new LinterEvent();
+        functionLinterEvent.begin();
         allDiagnostics.addAll(BallerinaLinter
                 .getFunctionDiagnostics(path, context));
+        functionLinterEvent.rule = "function";
+        this.requestSequencer.commitEvent(functionLinterEvent, path);
+        LinterEvent redeclaredVarLinterEvent = new LinterEvent();
+        redeclaredVarLinterEvent.begin();
         allDiagnostics.addAll(BallerinaLinter
                 .getRedeclaredVarDiagnostics(path, context));
+        redeclaredVarLinterEvent.rule = "redeclaredVar";
+        this.requestSequencer.commitEvent(redeclaredVarLinterEvent, path);
         // Fill the diagnostics to the return list
         allDiagnostics.forEach(diagnostic -> {
             String diagPath;
@@ -141,6 +162,19 @@ public class DiagnosticsPublisherImpl implements DiagnosticsPublisher {
         });
 
         this.previousDiagnostics = diagnostics;
+        publishEvent.diagnosticCount = allDiagnostics.size();
+        this.requestSequencer.commitEvent(publishEvent, path);
+    }
+
+    @Override
+    public Optional<List<io.ballerina.tools.diagnostics.Diagnostic>>
+    getDiagnostics(BaseOperationContext context, Path path, int startLine, int endLine) {
+        Optional<Project> project = context.compilerManager().getProject(path);
+        if (project.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return this.diagnosticIndex.getDiagnostics(project.get(), path, startLine, endLine);
     }
 
     private Diagnostic getDiagnostic(io.ballerina.tools.diagnostics.Diagnostic diagnostic) {
@@ -50,7 +50,6 @@ import com.lspandimpl.server.core.semantictoken.SemanticTokensProvider;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Holds the server initializing utilities.
@@ -222,8 +221,9 @@ public class ServerInitUtils {
 
     public static ExecuteCommandOptions getExecuteCommandOptions() {
         ExecuteCommandOptions options = new ExecuteCommandOptions();
-        List<String> commands = Arrays.stream(BalCommand.values())
-                .map(BalCommand::getCommand).collect(Collectors.toList());
+        // Other commands name the code action providers and are not executed by the workspace service
+        List<String> commands = Arrays.asList(BalCommand.ADD_DOC.getCommand(),
+                BalCommand.COMPLETION_ACCEPTED.getCommand());
         options.setCommands(commands);
 
         return options;
@@ -4,7 +4,8 @@ public enum BalCommand {
     ORGANIZE_IMPORTS("ORGANIZE_IMPORTS", "Organize Imports"),
     CREATE_VAR("CREATE_VAR", "Create Variable"),
     CREATE_FUNCTION("CREATE_FUNCTION", "Create Function"),
-    ADD_DOC("ADD_DOC", "Add Documentation");
+    ADD_DOC("ADD_DOC", "Add Documentation"),
+    COMPLETION_ACCEPTED("COMPLETION_ACCEPTED", "Completion Accepted");
 
     private final String command;
     private final String title;
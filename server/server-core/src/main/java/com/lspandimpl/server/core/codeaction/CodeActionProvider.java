@@ -28,15 +28,14 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 import com.lspandimpl.server.api.ConfigurationHolder;
 import com.lspandimpl.server.api.context.BalCodeActionContext;
+import com.lspandimpl.server.api.context.BalCodeActionProvider;
 import com.lspandimpl.server.api.context.BalTextDocumentContext;
-import com.lspandimpl.server.core.executecommand.CreateVariableArgs;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -44,36 +43,25 @@ import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 public class CodeActionProvider {
-    private static final String VAR_ASSIGNMENT_REQUIRED = "variable assignment is required";
-    private static final String UNDEFINED_FUNCTION = "undefined function";
     private static final Gson GSON = new Gson();
 
+    /**
+     * Get the code actions for the range. The code actions are returned without the edits, which are computed
+     * upon resolve.
+     *
+     * @param context code action context
+     * @param params  code action params
+     * @param version version of the document
+     * @return {@link List} of unresolved code actions
+     */
     public static List<Either<Command, CodeAction>>
-    getCodeAction(BalCodeActionContext context, CodeActionParams params) {
+    getCodeAction(BalCodeActionContext context, CodeActionParams params, int version) {
         List<Either<Command, CodeAction>> codeActions = new ArrayList<>();
         List<Diagnostic> diags = getDiagnostics(context, params.getRange());
         Optional<Node> topLevelNode =
                 getTopLevelNode(context, params.getRange());
-        List<String> diagMessages = diags.stream()
-                .map(diag -> diag.message().toLowerCase(Locale.ROOT))
-                .collect(Collectors.toList());
-        if (diagMessages.contains(VAR_ASSIGNMENT_REQUIRED)) {
-            Diagnostic diagnostic = diags.get(diagMessages
-                    .indexOf(VAR_ASSIGNMENT_REQUIRED));
-            Command createVarCommand =
-                    getCreateVarCommand(context, diagnostic,
-                            params.getRange());
-            Either<Command, CodeAction> command =
-                    Either.forLeft(createVarCommand);
-            return Collections.singletonList(command);
-
-            // Enable the following for the code action based implementation.
-            // Before that comment the lines 69-74
-            // CodeAction createVarCodeAction
-            //         = getCreateVarCodeAction(context, params.getRange(), diagnostic);
-            // Either<Command, CodeAction> codeAction =
-            //         Either.forRight(createVarCodeAction);
-            // return Collections.singletonList(codeAction);
+        for (CodeAction codeAction : CodeActionProviderRegistry.getCodeActions(context, diags, version)) {
+            codeActions.add(Either.forRight(codeAction));
         }
         codeActions.add(getOrganizeImportsCodeAction(params));
         ConfigurationHolder configHolder = context.clientConfigHolder();
@@ -98,19 +86,20 @@ public class CodeActionProvider {
 //            );
 //        }
 
-        // Checks for the create function code action and route to the relevant provider
-        Optional<Diagnostic> undefinedFunctionDiagnostic = getUndefinedFunctionDiagnostic(diags);
-
-        if (undefinedFunctionDiagnostic.isPresent()) {
-            Diagnostic diagnostic = undefinedFunctionDiagnostic.get();
-            codeActions.add(Either.forRight(CreateFunctionCodeAction.getCodeAction(context, diagnostic, params)));
-        }
-
         return codeActions;
     }
 
+    /**
+     * Compute the edit of the code action. Code actions computed for a previous version of the document are
+     * returned unresolved.
+     *
+     * @param context    text document context
+     * @param unresolved code action to be resolved
+     * @param version    current version of the document
+     * @return {@link CodeAction} resolved code action
+     */
     public static CodeAction
-    resolve(BalTextDocumentContext context, CodeAction unresolved) {
+    resolve(BalTextDocumentContext context, CodeAction unresolved, int version) {
         if (unresolved.getTitle().equals(BalCommand.ORGANIZE_IMPORTS.getTitle())) {
             WorkspaceEdit workspaceEdit =
                     getOrganizeImportEdit(context, context.getPath());
@@ -118,11 +107,9 @@ public class CodeActionProvider {
 
             return unresolved;
         }
-        if (unresolved.getTitle().equals(BalCommand.CREATE_FUNCTION.getTitle())) {
-            return CreateFunctionCodeActionResolve.getResolved(context, unresolved);
-        }
+        Optional<BalCodeActionProvider> provider = CodeActionProviderRegistry.getProvider(unresolved, version);
 
-        return null;
+        return provider.map(codeActionProvider -> codeActionProvider.resolve(context, unresolved)).orElse(unresolved);
     }
 
     private static Optional<Node> getTopLevelNode(BalCodeActionContext context,
@@ -173,65 +160,6 @@ public class CodeActionProvider {
         return Either.forRight(codeAction);
     }
 
-    private static Command
-    getCreateVarCommand(BalCodeActionContext context,
-                        Diagnostic diagnostic,
-                        Range range) {
-        String expr = context.getNodeAtCursor().toSourceCode().trim();
-        Command command = new Command();
-        command.setCommand(BalCommand.CREATE_VAR.getCommand());
-        command.setTitle(BalCommand.CREATE_VAR.getTitle());
-        List<Object> args = new ArrayList<>();
-        String typeDescriptor = CommonUtils.getExpectedTypeDescriptor(range, context);
-        String uri = context.getPath().toUri().toString();
-        String newText = typeDescriptor + " varName = " + expr;
-        LineRange lineRange = context.getNodeAtCursor().lineRange();
-        CreateVariableArgs createVarArgs =
-                new CreateVariableArgs(newText, lineRange, uri, diagnostic);
-        args.add(new CommandArgument("params", createVarArgs));
-        command.setArguments(args);
-
-        return command;
-    }
-
-    private static CodeAction
-    getCreateVarCodeAction(BalCodeActionContext context,
-                           Range range,
-                           Diagnostic diagnostic) {
-        CodeAction codeAction = new CodeAction();
-        codeAction.setTitle(BalCommand.CREATE_VAR.getTitle());
-        codeAction.setKind(CodeActionKind.QuickFix);
-        /*
-        Setting the diagnostic will show a quickfix link when hover over
-        the diagnostic
-         */
-        codeAction.setDiagnostics(Collections
-                .singletonList(CommonUtils.toDiagnostic(diagnostic)));
-        codeAction.setEdit(getCreateVarWorkspaceEdit(context, range));
-
-        return codeAction;
-    }
-
-    private static WorkspaceEdit getCreateVarWorkspaceEdit(BalCodeActionContext context,
-                                                           Range range) {
-        WorkspaceEdit workspaceEdit = new WorkspaceEdit();
-        Map<String, List<TextEdit>> textEditMap = new HashMap<>();
-        TextEdit textEdit = new TextEdit();
-
-        String expr = context.getNodeAtCursor().toSourceCode().trim();
-        String typeDescriptor = CommonUtils.getExpectedTypeDescriptor(range, context);
-        String uri = context.getPath().toUri().toString();
-        String newText = typeDescriptor + " varName = " + expr;
-
-        textEdit.setRange(toRange(context.getNodeAtCursor().lineRange()));
-        textEdit.setNewText(newText);
-        textEditMap.put(uri, Collections.singletonList(textEdit));
-
-        workspaceEdit.setChanges(textEditMap);
-
-        return workspaceEdit;
-    }
-
     private static WorkspaceEdit
     getOrganizeImportEdit(BalTextDocumentContext context,
                           Path path) {
@@ -270,19 +198,25 @@ public class CodeActionProvider {
 
     private static List<Diagnostic> getDiagnostics(BalCodeActionContext context, Range range) {
         Path path = context.getPath();
+        int startLine = range.getStart().getLine();
+        int endLine = range.getEnd().getLine();
+        Optional<List<Diagnostic>> published =
+                context.diagnosticPublisher().getDiagnostics(context, path, startLine, endLine);
+        if (published.isPresent()) {
+            return published.get();
+        }
+        // Diagnostics of the current project snapshot are not published yet
         Optional<SemanticModel> semanticModel = context.compilerManager().getSemanticModel(path);
         if (semanticModel.isEmpty()) {
             return Collections.emptyList();
         }
-        Position start = range.getStart();
-        Position end = range.getEnd();
         return semanticModel.get().diagnostics().stream()
                 .filter(diagnostic -> {
                     LineRange diagRange = diagnostic.location().lineRange();
                     LinePosition dStart = diagRange.startLine();
                     LinePosition dEnd = diagRange.endLine();
 
-                    return dStart.line() >= start.getLine() && dEnd.line() <= end.getLine();
+                    return dStart.line() <= endLine && dEnd.line() >= startLine;
                 }).collect(Collectors.toList());
     }
 
@@ -326,10 +260,4 @@ public class CodeActionProvider {
 
         return range;
     }
-
-    private static Optional<Diagnostic> getUndefinedFunctionDiagnostic(List<Diagnostic> diagnostics) {
-        return diagnostics.stream()
-                .filter(diagnostic -> diagnostic.message().contains(UNDEFINED_FUNCTION))
-                .findFirst();
-    }
 }
@@ -0,0 +1,107 @@
+package com.lspandimpl.server.core.codeaction;
+
+import com.google.gson.JsonObject;
+import com.lspandimpl.server.api.context.BalCodeActionContext;
+import com.lspandimpl.server.api.context.BalCodeActionProvider;
+import com.lspandimpl.server.core.utils.BudgetedFanOut;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.eclipse.lsp4j.CodeAction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+
+/**
+ * Registry of the code action providers keyed by the diagnostic codes they are attached to.
+ * <p>
+ * Providers are loaded once with the {@link ServiceLoader}. The providers of a diagnostic are looked up by its code,
+ * and the providers applying to the diagnostics in the range run in parallel with a shared time budget, so that the
+ * latency of the quick fixes stays bounded as more providers are added.
+ *
+ * @since 1.0.0
+ */
+public class CodeActionProviderRegistry {
+    private static final String PROVIDER_KEY = "provider";
+    private static final String VERSION_KEY = "version";
+    private static final long PROVIDER_TIME_BUDGET_MS = 200;
+    private static final Map<String, List<BalCodeActionProvider>> providersByCode = new HashMap<>();
+    private static final Map<String, BalCodeActionProvider> providersByName = new HashMap<>();
+
+    static {
+        for (BalCodeActionProvider provider : ServiceLoader.load(BalCodeActionProvider.class)) {
+            if (!provider.enabled()) {
+                continue;
+            }
+            providersByName.put(provider.getName(), provider);
+            for (String code : provider.diagnosticCodes()) {
+                providersByCode.computeIfAbsent(code, k -> new ArrayList<>()).add(provider);
+            }
+        }
+    }
+
+    private CodeActionProviderRegistry() {
+    }
+
+    /**
+     * Get the unresolved code actions of the providers attached to the given diagnostics.
+     * The code actions are ordered by the diagnostics and then by the registration order of the providers. Code
+     * actions of the providers exceeding the time budget are dropped. The name of the provider and the version of the
+     * document are recorded in the data of the code actions.
+     *
+     * @param context     code action context
+     * @param diagnostics diagnostics within the requested range
+     * @param version     version of the document the diagnostics belong to
+     * @return {@link List} of unresolved code actions
+     */
+    public static List<CodeAction> getCodeActions(BalCodeActionContext context, List<Diagnostic> diagnostics,
+                                                  int version) {
+        List<Callable<Optional<CodeAction>>> tasks = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            List<BalCodeActionProvider> providers = providersByCode.get(diagnostic.diagnosticInfo().code());
+            if (providers == null) {
+                continue;
+            }
+            for (BalCodeActionProvider provider : providers) {
+                tasks.add(() -> provider.getCodeAction(diagnostic, context).map(codeAction -> {
+                    JsonObject data = (JsonObject) codeAction.getData();
+                    data.addProperty(PROVIDER_KEY, provider.getName());
+                    data.addProperty(VERSION_KEY, version);
+                    return codeAction;
+                }));
+            }
+        }
+        BudgetedFanOut.Result<Optional<CodeAction>> results = BudgetedFanOut.invokeAll(tasks,
+                PROVIDER_TIME_BUDGET_MS, cause -> context.clientLogManager()
+                        .publishError("Code action provider failed: " + cause.getMessage()));
+        List<CodeAction> codeActions = new ArrayList<>();
+        for (Optional<CodeAction> codeAction : results.getValues()) {
+            codeAction.ifPresent(codeActions::add);
+        }
+
+        return codeActions;
+    }
+
+    /**
+     * Get the provider which returned a code action. The ranges in the code action data are only valid for the
+     * version of the document the code action was computed for.
+     *
+     * @param codeAction unresolved code action
+     * @param version    current version of the document
+     * @return {@link Optional} provider recorded in the code action data, empty if the document has been modified
+     */
+    public static Optional<BalCodeActionProvider> getProvider(CodeAction codeAction, int version) {
+        if (!(codeAction.getData() instanceof JsonObject)) {
+            return Optional.empty();
+        }
+        JsonObject data = (JsonObject) codeAction.getData();
+        if (!data.has(PROVIDER_KEY) || !data.has(VERSION_KEY) || data.get(VERSION_KEY).getAsInt() != version) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(providersByName.get(data.get(PROVIDER_KEY).getAsString()));
+    }
+}
@@ -2,26 +2,56 @@ package com.lspandimpl.server.core.codeaction;
 
 import com.google.gson.JsonObject;
 import com.lspandimpl.server.api.context.BalCodeActionContext;
+import com.lspandimpl.server.api.context.BalCodeActionProvider;
+import com.lspandimpl.server.api.context.BalTextDocumentContext;
+import com.lspandimpl.server.core.utils.CommonUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.eclipse.lsp4j.CodeAction;
-import org.eclipse.lsp4j.CodeActionParams;
+import org.eclipse.lsp4j.CodeActionKind;
 
-public class CreateFunctionCodeAction {
-    public static CodeAction getCodeAction(BalCodeActionContext context,
-                                           Diagnostic diagnostic,
-                                           CodeActionParams params) {
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class CreateFunctionCodeAction implements BalCodeActionProvider {
+    // Compiler diagnostic code of the undefined function error
+    private static final String UNDEFINED_FUNCTION = "BCE2011";
+
+    @Override
+    public String getName() {
+        return BalCommand.CREATE_FUNCTION.getCommand();
+    }
+
+    @Override
+    public List<String> diagnosticCodes() {
+        return Collections.singletonList(UNDEFINED_FUNCTION);
+    }
+
+    @Override
+    public Optional<CodeAction> getCodeAction(Diagnostic diagnostic, BalCodeActionContext context) {
         CodeAction codeAction = new CodeAction();
         codeAction.setTitle(BalCommand.CREATE_FUNCTION.getTitle());
+        codeAction.setKind(CodeActionKind.QuickFix);
+        codeAction.setDiagnostics(Collections.singletonList(CommonUtils.toDiagnostic(diagnostic)));
         String funcName = diagnostic.message()
                 .replace("undefined function", "")
                 .replace("'", "").trim();
-        int eLine = context.currentDocument().get().syntaxTree().rootNode().lineRange().endLine().line();
 
         JsonObject data = new JsonObject();
-        data.addProperty("uri", params.getTextDocument().getUri());
+        data.addProperty("uri", context.getPath().toUri().toString());
         data.addProperty("name", funcName);
         codeAction.setData(data);
         
-        return codeAction;
+        return Optional.of(codeAction);
+    }
+
+    @Override
+    public CodeAction resolve(BalTextDocumentContext context, CodeAction unresolved) {
+        return CreateFunctionCodeActionResolve.getResolved(context, unresolved);
+    }
+
+    @Override
+    public boolean enabled() {
+        return true;
     }
 }
@@ -0,0 +1,113 @@
+package com.lspandimpl.server.core.codeaction;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.lspandimpl.server.api.context.BalCodeActionContext;
+import com.lspandimpl.server.api.context.BalCodeActionProvider;
+import com.lspandimpl.server.api.context.BalTextDocumentContext;
+import com.lspandimpl.server.core.utils.CommonUtils;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceEdit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Creates a variable for the value of an expression whose value is not assigned.
+ * The code action only carries the range of the diagnostic and the type of the expression is queried upon resolve.
+ *
+ * @since 1.0.0
+ */
+public class CreateVariableCodeAction implements BalCodeActionProvider {
+    // Compiler diagnostic code of the variable assignment required error
+    private static final String ASSIGNMENT_REQUIRED = "BCE2526";
+    private static final Gson GSON = new Gson();
+
+    @Override
+    public String getName() {
+        return BalCommand.CREATE_VAR.getCommand();
+    }
+
+    @Override
+    public List<String> diagnosticCodes() {
+        return Collections.singletonList(ASSIGNMENT_REQUIRED);
+    }
+
+    @Override
+    public Optional<CodeAction> getCodeAction(Diagnostic diagnostic, BalCodeActionContext context) {
+        org.eclipse.lsp4j.Diagnostic clientDiagnostic = CommonUtils.toDiagnostic(diagnostic);
+        CodeAction codeAction = new CodeAction();
+        codeAction.setTitle(BalCommand.CREATE_VAR.getTitle());
+        codeAction.setKind(CodeActionKind.QuickFix);
+        /*
+        Setting the diagnostic will show a quickfix link when hover over
+        the diagnostic
+         */
+        codeAction.setDiagnostics(Collections.singletonList(clientDiagnostic));
+
+        JsonObject data = new JsonObject();
+        data.addProperty("uri", context.getPath().toUri().toString());
+        data.add("range", GSON.toJsonTree(clientDiagnostic.getRange()));
+        codeAction.setData(data);
+
+        return Optional.of(codeAction);
+    }
+
+    @Override
+    public CodeAction resolve(BalTextDocumentContext context, CodeAction unresolved) {
+        JsonObject data = (JsonObject) unresolved.getData();
+        Range range = GSON.fromJson(data.get("range"), Range.class);
+        Optional<SyntaxTree> syntaxTree = context.currentSyntaxTree();
+        Optional<SemanticModel> semanticModel = context.compilerManager().getSemanticModel(context.getPath());
+        if (syntaxTree.isEmpty() || semanticModel.isEmpty()) {
+            return unresolved;
+        }
+        TextDocument textDocument = syntaxTree.get().textDocument();
+        int start = textDocument.textPositionFrom(toLinePosition(range.getStart()));
+        int end = textDocument.textPositionFrom(toLinePosition(range.getEnd()));
+        NonTerminalNode node = ((ModulePartNode) syntaxTree.get().rootNode())
+                .findNode(TextRange.from(start, end - start));
+        if (node instanceof ExpressionStatementNode) {
+            node = ((ExpressionStatementNode) node).expression();
+        }
+        LineRange lineRange = node.lineRange();
+        Optional<TypeSymbol> typeSymbol = semanticModel.get().typeOf(lineRange);
+        if (typeSymbol.isEmpty()) {
+            return unresolved;
+        }
+
+        String newText = typeSymbol.get().signature() + " varName = " + node.toSourceCode().trim();
+        TextEdit textEdit = new TextEdit(CommonUtils.toRange(lineRange), newText);
+        WorkspaceEdit workspaceEdit = new WorkspaceEdit();
+        workspaceEdit.setChanges(Collections.singletonMap(data.get("uri").getAsString(),
+                Collections.singletonList(textEdit)));
+        unresolved.setEdit(workspaceEdit);
+
+        return unresolved;
+    }
+
+    @Override
+    public boolean enabled() {
+        return true;
+    }
+
+    private static LinePosition toLinePosition(Position position) {
+        return LinePosition.from(position.getLine(), position.getCharacter());
+    }
+}
@@ -27,6 +27,8 @@ import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.directory.BuildProject;
@@ -42,6 +44,11 @@ import org.eclipse.lsp4j.ShowMessageRequestParams;
 import org.eclipse.lsp4j.services.LanguageClient;
 import com.lspandimpl.server.api.context.LSContext;
 import com.lspandimpl.server.ballerina.compiler.workspace.CompilerManager;
+import com.lspandimpl.server.core.docsync.DocumentRequestSequencer;
+import com.lspandimpl.server.core.jfr.CompilationEvent;
+import com.lspandimpl.server.core.jfr.DocumentUpdateEvent;
+import com.lspandimpl.server.core.jfr.ProjectLoadEvent;
+import com.lspandimpl.server.core.metrics.ServerMetrics;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -51,19 +58,40 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 /**
  * Ballerina Compiler Manager implementation.
+ * <p>
+ * The projects are acquired from the {@link SharedProjectStore}, so that the sessions working on the same package
+ * share a single compilation. Upon the first modification of a document, the session switches to its own overlay of
+ * the project, duplicated from the shared snapshot, which keeps the unsaved editor buffers of the session isolated
+ * from the other sessions.
+ * <p>
+ * The compiler is not safe for concurrent use, hence a package is compiled and duplicated holding the lock of its
+ * project. Since the sessions sharing a package hold the same project instance, the access is serialized per shared
+ * entry, while the private overlays of the sessions are compiled in parallel.
+ * <p>
+ * A package caches its compilation, hence only the first compilation of a package is recorded as a compilation in
+ * the metrics, and the subsequent ones are counted as cache hits.
  *
  * @since 1.0.0
  */
 public class BallerinaCompilerManager extends CompilerManager {
     private static final LSContext.Key<CompilerManager> COMPILER_MANAGER_KEY = new LSContext.Key<>();
+    private static final Set<Package> COMPILED_PACKAGES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
     private final Map<Path, Project> projectsMap = new ConcurrentHashMap<>();
+    private final Set<Path> overlayRoots = ConcurrentHashMap.newKeySet();
+    private final SharedProjectStore projectStore = SharedProjectStore.getInstance();
+    private final ParsedDocumentStore parsedDocuments = new ParsedDocumentStore();
     private final LanguageClient client;
+    private final ServerMetrics metrics;
+    private final DocumentRequestSequencer requestSequencer;
 
     /**
      * Get the Compiler manager instance for the given server context.
@@ -80,9 +108,24 @@ public class BallerinaCompilerManager extends CompilerManager {
         return compilerManager;
     }
 
+    /**
+     * Get the Compiler manager instance of the given server context, without creating one.
+     * The compiler manager is created upon the first document operation, hence a session which ends without opening
+     * a document does not load the compiler merely to release its projects.
+     *
+     * @param serverContext Language Server Context.
+     * @return {@link Optional} compiler manager, empty if not created yet
+     */
+    public static Optional<CompilerManager> getIfCreated(LSContext serverContext) {
+        return Optional.ofNullable(serverContext.get(COMPILER_MANAGER_KEY));
+    }
+
     private BallerinaCompilerManager(LSContext serverContext) {
         serverContext.put(COMPILER_MANAGER_KEY, this);
         this.client = serverContext.getClient();
+        this.metrics = ServerMetrics.getInstance(serverContext);
+        this.metrics.setProjectCount(this.projectsMap::size);
+        this.requestSequencer = DocumentRequestSequencer.getInstance(serverContext);
     }
 
     public Optional<Project> openDocument(Path path) {
@@ -95,9 +138,23 @@ public class BallerinaCompilerManager extends CompilerManager {
             throw new RuntimeException("Trying to update a document which does not have an already opened Project");
         }
 
+        DocumentUpdateEvent event = new DocumentUpdateEvent();
+        event.begin();
+        Path packageRoot = getPackageRoot(path);
+        if (this.overlayRoots.add(packageRoot)) {
+            // Shared project must not observe the buffers of this session, hence modify a private copy instead
+            Project sharedProject = currentProject.get();
+            Project overlay;
+            synchronized (sharedProject) {
+                overlay = sharedProject.duplicate();
+            }
+            this.projectsMap.put(packageRoot, overlay);
+            this.projectStore.release(packageRoot);
+        }
         Document modifiedDocument = this.getDocument(path).orElseThrow().modify().withContent(content).apply();
         Project newProject = modifiedDocument.module().project();
-        this.projectsMap.put(currentProject.get().sourceRoot(), newProject);
+        this.projectsMap.put(packageRoot, newProject);
+        this.requestSequencer.commitEvent(event, path);
 
         return Optional.ofNullable(newProject);
     }
@@ -108,7 +165,34 @@ public class BallerinaCompilerManager extends CompilerManager {
         if (module.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(module.get().getCompilation().getSemanticModel());
+
+        return this.getCompilation(path)
+                .map(compilation -> compilation.getSemanticModel(module.get().moduleId()));
+    }
+
+    @Override
+    public Optional<PackageCompilation> getCompilation(Path path) {
+        Optional<Project> project = this.getProject(path);
+        if (project.isEmpty()) {
+            return Optional.empty();
+        }
+        CompilationEvent event = new CompilationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean cached;
+        PackageCompilation compilation;
+        synchronized (project.get()) {
+            cached = COMPILED_PACKAGES.contains(project.get().currentPackage());
+            compilation = compile(project.get());
+        }
+        if (cached) {
+            this.metrics.recordCompilationCacheHit();
+            return Optional.of(compilation);
+        }
+        this.metrics.recordCompilation(System.nanoTime() - start);
+        this.requestSequencer.commitEvent(event, path);
+
+        return Optional.of(compilation);
     }
 
     @Override
@@ -141,9 +225,38 @@ public class BallerinaCompilerManager extends CompilerManager {
         return Optional.of(module.document(documentId).syntaxTree());
     }
 
+    @Override
+    public void parseDocument(Path path, String content) {
+        this.parsedDocuments.parse(path, content);
+    }
+
+    @Override
+    public Optional<SyntaxTree> getParsedSyntaxTree(Path path) {
+        Optional<SyntaxTree> syntaxTree = this.parsedDocuments.get(path);
+        if (syntaxTree.isPresent() || this.getProject(path).isEmpty()) {
+            return syntaxTree;
+        }
+
+        return this.getSyntaxTree(path);
+    }
+
+    @Override
+    public void discardParsedDocument(Path path) {
+        this.parsedDocuments.remove(path);
+    }
+
     @Override
     public void invalidate(Path path) {
-        this.projectsMap.remove(path);
+        if (this.projectsMap.remove(path) != null && !this.overlayRoots.remove(path)) {
+            this.projectStore.release(path);
+        }
+    }
+
+    @Override
+    public void releaseProjects() {
+        for (Path packageRoot : this.projectsMap.keySet()) {
+            this.invalidate(packageRoot);
+        }
     }
 
     @Override
@@ -187,9 +300,13 @@ public class BallerinaCompilerManager extends CompilerManager {
 
     @Override
     public List<SemanticModel> getSemanticModels(Path projectRoot) {
+        Optional<PackageCompilation> compilation = this.getCompilation(projectRoot);
+        if (compilation.isEmpty()) {
+            return Collections.emptyList();
+        }
         List<Module> modules = this.getModules(projectRoot);
         return modules.stream()
-                .map(module -> module.getCompilation().getSemanticModel())
+                .map(module -> compilation.get().getSemanticModel(module.moduleId()))
                 .collect(Collectors.toList());
     }
 
@@ -219,19 +336,23 @@ public class BallerinaCompilerManager extends CompilerManager {
 
     private Optional<Project> buildProject(Path path) {
         try {
-            Project project;
-            boolean isStandaloneFile = ProjectPaths.isStandaloneBalFile(path);
-            Path packageRoot = isStandaloneFile ? path : ProjectPaths.packageRoot(path);
-            BuildOptions options = new BuildOptionsBuilder().offline(true).build();
-
+            Path packageRoot = getPackageRoot(path);
             if (this.projectsMap.containsKey(packageRoot)) {
+                this.metrics.recordProjectCacheHit();
                 return Optional.of(this.projectsMap.get(packageRoot));
             }
-            if (isStandaloneFile) {
-                project = SingleFileProject.load(packageRoot, options);
+            boolean loaded = this.projectStore.isLoaded(packageRoot);
+            ProjectLoadEvent event = new ProjectLoadEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Project project = this.projectStore.acquire(packageRoot, BallerinaCompilerManager::loadProject);
+            if (loaded) {
+                this.metrics.recordProjectCacheHit();
             } else {
-                project = BuildProject.load(packageRoot, options);
+                this.metrics.recordProjectLoad(System.nanoTime() - start);
             }
+            event.cacheHit = loaded;
+            this.requestSequencer.commitEvent(event, path);
 
             if (this.projectContainsTomlDiagnostics(project)) {
                 ShowMessageRequestParams params = new ShowMessageRequestParams();
@@ -248,16 +369,41 @@ public class BallerinaCompilerManager extends CompilerManager {
                         });
             }
 
-            this.projectsMap.putIfAbsent(packageRoot, project);
+            if (this.projectsMap.putIfAbsent(packageRoot, project) != null) {
+                // Concurrently opened by this session, hence keep a single reference
+                this.projectStore.release(packageRoot);
+            }
 
-            return Optional.of(project);
+            return Optional.of(this.projectsMap.get(packageRoot));
         } catch (ProjectException e) {
             return Optional.empty();
         }
     }
 
+    private static Path getPackageRoot(Path path) {
+        return ProjectPaths.isStandaloneBalFile(path) ? path : ProjectPaths.packageRoot(path);
+    }
+
+    private static Project loadProject(Path packageRoot) {
+        BuildOptions options = new BuildOptionsBuilder().offline(true).build();
+        if (ProjectPaths.isStandaloneBalFile(packageRoot)) {
+            return SingleFileProject.load(packageRoot, options);
+        }
+
+        return BuildProject.load(packageRoot, options);
+    }
+
+    private static PackageCompilation compile(Project project) {
+        synchronized (project) {
+            Package currentPackage = project.currentPackage();
+            PackageCompilation compilation = currentPackage.getCompilation();
+            COMPILED_PACKAGES.add(currentPackage);
+            return compilation;
+        }
+    }
+
     private boolean projectContainsTomlDiagnostics(Project project) {
-        DiagnosticResult diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        DiagnosticResult diagnosticResult = compile(project).diagnosticResult();
         return diagnosticResult.diagnostics().stream()
                 .anyMatch(diagnostic -> diagnostic instanceof TomlDiagnostic
                         && diagnostic.location().lineRange().filePath().endsWith("Ballerina.toml"));
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.compiler.manager;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Syntax trees of the open documents, parsed from the editor buffers of a session.
+ * <p>
+ * Parsing a single document takes a fraction of the time to load and compile its project, hence the features which
+ * only need the syntax tree are served from here as soon as a document is opened, while the project is still being
+ * loaded in the background.
+ * <p>
+ * The store does not depend on the project model. Hence the trees are available for the documents whose project is
+ * still being loaded, failed to load or does not exist at all. Since the client sends the whole content upon each
+ * change, the modified region is derived from the previous content and the previous tree is reparsed incrementally,
+ * reusing the nodes outside of the modified region.
+ *
+ * @since 1.0.0
+ */
+public class ParsedDocumentStore {
+    private final Map<Path, SyntaxTree> syntaxTrees = new ConcurrentHashMap<>();
+
+    /**
+     * Parse the content of the document, replacing the previously parsed tree.
+     *
+     * @param path    document path
+     * @param content content of the editor buffer
+     */
+    public void parse(Path path, String content) {
+        SyntaxTree previous = this.syntaxTrees.get(path);
+        if (previous == null) {
+            // File name is used as the path of the tree, as in the syntax trees of the project documents
+            String fileName = path.getFileName().toString();
+            this.syntaxTrees.put(path, SyntaxTree.from(TextDocuments.from(content), fileName));
+            return;
+        }
+        this.syntaxTrees.put(path, reparse(previous, content));
+    }
+
+    public Optional<SyntaxTree> get(Path path) {
+        return Optional.ofNullable(this.syntaxTrees.get(path));
+    }
+
+    public void remove(Path path) {
+        this.syntaxTrees.remove(path);
+    }
+
+    /**
+     * Reparse the tree with a single edit spanning from the first to the last modified character.
+     */
+    private static SyntaxTree reparse(SyntaxTree previous, String content) {
+        String previousContent = previous.textDocument().toString();
+        if (previousContent.equals(content)) {
+            return previous;
+        }
+        int maxLength = Math.min(previousContent.length(), content.length());
+        int prefix = 0;
+        while (prefix < maxLength && previousContent.charAt(prefix) == content.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxLength - prefix && previousContent.charAt(previousContent.length() - 1 - suffix)
+                == content.charAt(content.length() - 1 - suffix)) {
+            suffix++;
+        }
+        TextRange range = TextRange.from(prefix, previousContent.length() - prefix - suffix);
+        TextEdit edit = TextEdit.from(range, content.substring(prefix, content.length() - suffix));
+
+        return previous.modifyWith(TextDocumentChange.from(new TextEdit[]{edit}));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.compiler.manager;
+
+import io.ballerina.projects.Project;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Process level store of the projects loaded from the file system, shared among the language server sessions.
+ * <p>
+ * A project is loaded and compiled once per package root, regardless of the number of sessions working on it. The
+ * sessions acquire a reference to the project when a document of the package is opened and release it when the
+ * session no longer uses the project. The project is evicted once the last reference is released.
+ * <p>
+ * The shared projects reflect the content on the file system and must not be modified. A session which edits a
+ * document keeps its own overlay of the project instead (see {@link BallerinaCompilerManager}).
+ *
+ * @since 1.0.0
+ */
+public class SharedProjectStore {
+    private static final SharedProjectStore INSTANCE = new SharedProjectStore();
+    private final Map<Path, SharedProject> projects = new HashMap<>();
+
+    public static SharedProjectStore getInstance() {
+        return INSTANCE;
+    }
+
+    private SharedProjectStore() {
+    }
+
+    /**
+     * Acquire a reference to the project of the given package root, loading the project if not already loaded.
+     *
+     * @param packageRoot package root, or the file path of a standalone file
+     * @param loader      loads the project when no session has loaded it yet
+     * @return {@link Project} shared project
+     */
+    public Project acquire(Path packageRoot, Function<Path, Project> loader) {
+        SharedProject sharedProject;
+        synchronized (this.projects) {
+            sharedProject = this.projects.computeIfAbsent(packageRoot, root -> new SharedProject());
+            sharedProject.references++;
+        }
+        try {
+            return sharedProject.load(packageRoot, loader);
+        } catch (RuntimeException e) {
+            this.release(packageRoot);
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether the project of the given package root has been loaded by a session.
+     *
+     * @param packageRoot package root, or the file path of a standalone file
+     * @return {@link Boolean} whether the project is loaded
+     */
+    public boolean isLoaded(Path packageRoot) {
+        synchronized (this.projects) {
+            SharedProject sharedProject = this.projects.get(packageRoot);
+            return sharedProject != null && sharedProject.project != null;
+        }
+    }
+
+    /**
+     * Release a reference acquired for the given package root.
+     *
+     * @param packageRoot package root, or the file path of a standalone file
+     */
+    public void release(Path packageRoot) {
+        synchronized (this.projects) {
+            SharedProject sharedProject = this.projects.get(packageRoot);
+            if (sharedProject != null && --sharedProject.references <= 0) {
+                this.projects.remove(packageRoot);
+            }
+        }
+    }
+
+    private static class SharedProject {
+        private int references = 0;
+        private volatile Project project;
+
+        /**
+         * Load under the lock of the entry, so that the concurrent sessions opening the same package wait for a
+         * single load while the other packages are loaded in parallel.
+         */
+        private synchronized Project load(Path packageRoot, Function<Path, Project> loader) {
+            if (this.project == null) {
+                this.project = loader.apply(packageRoot);
+            }
+
+            return this.project;
+        }
+    }
+}
@@ -1,32 +1,26 @@
 package com.lspandimpl.server.core.completion;
 
 import com.lspandimpl.server.api.context.BalCompletionContext;
-import com.lspandimpl.server.core.utils.CommonUtils;
-import io.ballerina.compiler.api.symbols.AnnotationSymbol;
-import io.ballerina.compiler.api.symbols.ClassSymbol;
-import io.ballerina.compiler.api.symbols.Documentation;
+import com.lspandimpl.server.core.codeaction.BalCommand;
+import com.lspandimpl.server.core.completion.resolve.SymbolHandleData;
 import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.ParameterSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
-import io.ballerina.compiler.api.symbols.TypeSymbol;
-import io.ballerina.compiler.api.symbols.VariableSymbol;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
+import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemCapabilities;
 import org.eclipse.lsp4j.CompletionItemKind;
-import org.eclipse.lsp4j.CompletionItemTag;
-import org.eclipse.lsp4j.CompletionItemTagSupportCapabilities;
+import org.eclipse.lsp4j.CompletionItemResolveSupportCapabilities;
 import org.eclipse.lsp4j.InsertReplaceEdit;
 import org.eclipse.lsp4j.InsertTextFormat;
-import org.eclipse.lsp4j.MarkupContent;
-import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
@@ -34,20 +28,22 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import com.lspandimpl.server.api.context.BalCompletionProvider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public abstract class BalCompletionProviderImpl<T extends Node> implements BalCompletionProvider<T> {
-    private final Class<? extends Node> attachmentPoint;
+    private final List<SyntaxKind> attachmentPoints;
 
-    public BalCompletionProviderImpl(Class<? extends Node> attachmentPoint) {
-        this.attachmentPoint = attachmentPoint;
+    public BalCompletionProviderImpl(SyntaxKind... attachmentPoints) {
+        this.attachmentPoints = Arrays.asList(attachmentPoints);
     }
 
     @Override
-    public Class<? extends Node> attachmentPoint() {
-        return this.attachmentPoint;
+    public List<SyntaxKind> attachmentPoints() {
+        return this.attachmentPoints;
     }
 
     @Override
@@ -57,34 +53,55 @@ public abstract class BalCompletionProviderImpl<T extends Node> implements BalCo
 
     protected List<CompletionItem> getTypeCompletionItems(BalCompletionContext context) {
         List<CompletionItem> completionItems = new ArrayList<>();
-        for (Symbol symbol : context.visibleSymbols()) {
-            if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
-                TypeDefinitionSymbol tDesc = (TypeDefinitionSymbol) symbol;
-                CompletionItem item = new CompletionItem();
+        List<Symbol> typeSymbols = context.visibleSymbols(this.getTypedPrefix(context)).stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .collect(Collectors.toList());
+        for (Symbol symbol : context.rank(typeSymbols)) {
+            CompletionItem item = new CompletionItem();
+
+            item.setKind(CompletionItemKind.TypeParameter);
+            item.setLabel(symbol.getName().get());
+            item.setInsertText(symbol.getName().get());
+            // The type signature is set as the detail upon resolve
+            this.setResolveData(symbol, context, item);
+            this.setAcceptedCommand(symbol, item);
+            completionItems.add(item);
+        }
 
-                item.setKind(CompletionItemKind.TypeParameter);
-                item.setLabel(symbol.getName().get());
-                item.setInsertText(symbol.getName().get());
-                // Set the type signature as the detail
-                item.setDetail(tDesc.typeDescriptor().signature());
+        return completionItems;
+    }
 
-                List<AnnotationSymbol> annotations = tDesc.annotations();
-                boolean deprecated = annotations.stream()
-                        .anyMatch(annot -> annot.getName()
-                                .orElse("").equals("deprecated"));
-                if (deprecated) {
-                    item.setTags(Collections
-                            .singletonList(CompletionItemTag.Deprecated));
-                }
-                completionItems.add(item);
-            }
+    /**
+     * Get the part of the identifier at the cursor which has been typed so far.
+     * Candidates are filtered with this prefix before the completion items are materialized.
+     *
+     * @param context Completion context
+     * @return {@link String} typed prefix or an empty string when the cursor is not on an identifier
+     */
+    protected String getTypedPrefix(BalCompletionContext context) {
+        NonTerminalNode nodeAtCursor = context.getNodeAtCursor();
+        Token token;
+        if (nodeAtCursor.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+            token = ((SimpleNameReferenceNode) nodeAtCursor).name();
+        } else {
+            token = context.getTokenAtCursor();
+        }
+        if (token.kind() != SyntaxKind.IDENTIFIER_TOKEN || token.isMissing()) {
+            return "";
+        }
+        int cursor = context.getCursorPositionInTree();
+        int start = token.textRange().startOffset();
+        if (cursor < start || cursor > token.textRange().endOffset()) {
+            return "";
         }
 
-        return completionItems;
+        return token.text().substring(0, cursor - start);
     }
 
     /**
      * Convert the symbols to the completion items.
+     * Only the label, kind and the insert text are computed here. The detail and the documentation are
+     * computed by the {@link CompletionItemResolver} from the symbol handle set as the item's data.
      *
      * @param symbols symbols to be convert
      * @param context Completion context
@@ -102,112 +119,64 @@ public abstract class BalCompletionProviderImpl<T extends Node> implements BalCo
             // this.setInsertText(symbol, context, cItem);
             // this.setTextEdit(symbol, context, cItem);
             this.setInsertReplaceTextEdit(symbol, context, cItem);
-            this.setDetail(symbol, context, cItem);
             cItem.setLabel(symbol.getName().get());
-            this.setDocumentation(symbol, context, cItem);
-            this.setTags(symbol, context, cItem);
+            this.setKind(symbol, cItem);
+            this.setResolveData(symbol, context, cItem);
+            this.setAcceptedCommand(symbol, cItem);
             completionItems.add(cItem);
         }
 
         return completionItems;
     }
 
-    private void setDetail(Symbol symbol,
-                           BalCompletionContext context,
-                           CompletionItem cItem) {
-        String detail;
+    private void setKind(Symbol symbol, CompletionItem cItem) {
+        CompletionItemKind kind;
         switch (symbol.kind()) {
             case FUNCTION:
-                Optional<TypeSymbol> tSymbol =
-                        ((FunctionSymbol) symbol).typeDescriptor()
-                                .returnTypeDescriptor();
-                detail = tSymbol.isPresent() ? tSymbol.get().signature() : "()";
+                kind = CompletionItemKind.Function;
                 break;
             case TYPE_DEFINITION:
-                detail = ((TypeDefinitionSymbol) symbol).typeDescriptor().signature();
+                kind = CompletionItemKind.TypeParameter;
                 break;
             case VARIABLE:
-                detail = ((VariableSymbol) symbol).typeDescriptor().signature();
+                kind = CompletionItemKind.Variable;
                 break;
-            default:
-                return;
-        }
-
-        cItem.setDetail(detail);
-    }
-
-    private void setTags(Symbol symbol,
-                         BalCompletionContext context,
-                         CompletionItem cItem) {
-        List<AnnotationSymbol> annotations;
-        switch (symbol.kind()) {
-            case CLASS:
-                annotations = ((ClassSymbol) symbol).annotations();
-                break;
-            case FUNCTION:
-                annotations = ((FunctionSymbol) symbol).annotations();
+            case CONSTANT:
+                kind = CompletionItemKind.Constant;
                 break;
-            case TYPE_DEFINITION:
-                annotations = ((TypeDefinitionSymbol) symbol).annotations();
+            case CLASS:
+                kind = CompletionItemKind.Class;
                 break;
             default:
-                annotations = Collections.emptyList();
-                break;
+                return;
         }
-        CompletionItemCapabilities itemCapabilities =
-                context.clientCapabilities().getTextDocument()
-                        .getCompletion().getCompletionItem();
-        CompletionItemTagSupportCapabilities tagSupport =
-                itemCapabilities.getTagSupport();
-        List<CompletionItemTag> supportedTags = tagSupport.getValueSet();
-
-        Optional<AnnotationSymbol> deprecatedAnnotation = annotations.stream()
-                .filter(annot -> annot.getName().orElse("").equals("deprecated"))
-                .findAny();
 
-        if (deprecatedAnnotation.isPresent() &&
-                supportedTags.contains(CompletionItemTag.Deprecated)) {
-            cItem.setTags(Collections.singletonList(CompletionItemTag.Deprecated));
-        }
+        cItem.setKind(kind);
     }
 
-    private void setDocumentation(Symbol symbol, BalCompletionContext context, CompletionItem cItem) {
-        Optional<Documentation> documentation;
-
-        switch (symbol.kind()) {
-            case CLASS:
-                documentation = ((ClassSymbol) symbol).documentation();
-                break;
-            case FUNCTION:
-                documentation = ((FunctionSymbol) symbol).documentation();
-                break;
-            case TYPE_DEFINITION:
-                documentation = ((TypeDefinitionSymbol) symbol).documentation();
-                break;
-            default:
-                documentation = Optional.empty();
-                break;
-        }
-        if (documentation.isEmpty() || documentation.get().description().isEmpty()) {
-            return;
-        }
-        CompletionItemCapabilities capabilities =
-                context.clientCapabilities().getTextDocument()
-                        .getCompletion().getCompletionItem();
-        String description = documentation.get().description().get();
-        List<String> docFormat = capabilities.getDocumentationFormat();
-        Either<String, MarkupContent> itemDocs;
-        if (docFormat.contains(MarkupKind.MARKDOWN)) {
-            MarkupContent markupContent = new MarkupContent();
-            markupContent.setKind(MarkupKind.MARKDOWN);
-            markupContent.setValue("## Description " + CommonUtils.MD_LINE_SEPARATOR + description);
+    /**
+     * Set the command the client executes after inserting the item, which records the name of the accepted symbol
+     * as the recency signal of the ranking. Items merely focused in the list are resolved but not accepted.
+     */
+    private void setAcceptedCommand(Symbol symbol, CompletionItem cItem) {
+        Command command = new Command(BalCommand.COMPLETION_ACCEPTED.getTitle(),
+                BalCommand.COMPLETION_ACCEPTED.getCommand(), Collections.singletonList(symbol.getName().get()));
+        cItem.setCommand(command);
+    }
 
-            itemDocs = Either.forRight(markupContent);
-        } else {
-            itemDocs = Either.forLeft(description);
+    /**
+     * Set the symbol handle as the data of the item to compute the rest of the properties upon resolve.
+     * Tags can be resolved lazily only if the client says so. Otherwise tags are computed here.
+     */
+    private void setResolveData(Symbol symbol, BalCompletionContext context, CompletionItem cItem) {
+        Optional<String> handle = context.symbolHandle(symbol);
+        handle.ifPresent(h -> cItem.setData(new SymbolHandleData(context.getPath().toUri().toString(), h)));
+        CompletionItemResolveSupportCapabilities resolveSupport = context.clientCapabilities().getTextDocument()
+                .getCompletion().getCompletionItem().getResolveSupport();
+        boolean lazyTags = resolveSupport != null && resolveSupport.getProperties().contains("tags");
+        if (handle.isEmpty() || !lazyTags) {
+            CompletionItemResolver.setTags(symbol, context, cItem);
         }
-
-        cItem.setDocumentation(itemDocs);
     }
 
     private void setInsertText(Symbol symbol, BalCompletionContext context, CompletionItem cItem) {
@@ -2,36 +2,105 @@ package com.lspandimpl.server.core.completion;
 
 import com.lspandimpl.server.api.context.BalCompletionContext;
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
 import com.lspandimpl.server.api.context.BalCompletionProvider;
+import com.lspandimpl.server.core.utils.BudgetedFanOut;
 import com.lspandimpl.server.core.utils.ContextEvaluator;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
 
 public class BalCompletionRouter {
-    private static final HashMap<Class<?>, BalCompletionProvider> completionProviders;
+    private static final long PROVIDER_TIME_BUDGET_MS = 500;
+    private static final Map<SyntaxKind, List<BalCompletionProvider<Node>>> completionProviders;
+
     static {
-        completionProviders = new HashMap<>();
-        FunctionBodyNodeContextProvider functionBodyProvider = new FunctionBodyNodeContextProvider();
-        ModulePartNodeContextProvider modulePartProvider = new ModulePartNodeContextProvider();
-        completionProviders.put(functionBodyProvider.attachmentPoint(), functionBodyProvider);
-        completionProviders.put(modulePartProvider.attachmentPoint(), modulePartProvider);
+        completionProviders = new EnumMap<>(SyntaxKind.class);
+        for (BalCompletionProvider<?> provider : ServiceLoader.load(BalCompletionProvider.class)) {
+            if (!provider.enabled()) {
+                continue;
+            }
+            for (SyntaxKind kind : provider.attachmentPoints()) {
+                completionProviders.computeIfAbsent(kind, k -> new ArrayList<>()).add(castProvider(provider));
+            }
+        }
     }
-    public static List<CompletionItem> compute(BalCompletionContext ctx) {
+
+    /**
+     * Compute the completions at the cursor.
+     * Candidates are already filtered by the typed prefix, which still is a superset of what the client shows
+     * for the subsequent keystrokes. Therefore the list is marked as complete to let the client refilter locally,
+     * unless the ranked candidates have been truncated or a provider exceeded its time budget.
+     *
+     * @param ctx completion context
+     * @return {@link CompletionList} computed
+     */
+    public static CompletionList compute(BalCompletionContext ctx) {
         ContextEvaluator.fillTokenInfoAtCursor(ctx);
         Node node = ctx.getNodeAtCursor();
-        BalCompletionProvider<Node> provider = null;
+        List<BalCompletionProvider<Node>> providers = null;
         
         while (node != null) {
-            if (completionProviders.containsKey(node.getClass())) {
-                provider = completionProviders.get(node.getClass());
+            providers = completionProviders.get(node.kind());
+            if (providers != null) {
                 break;
             }
             node = node.parent();
         }
         
-        return (provider == null)  ? Collections.emptyList() : provider.getCompletions(node, ctx);
+        List<CompletionItem> items = providers == null ? Collections.emptyList() : fanOut(providers, node, ctx);
+
+        return new CompletionList(ctx.isIncomplete(), items);
+    }
+
+    /**
+     * Run the providers in parallel within the time budget and merge the results in the order of the providers.
+     * Each provider gets its own fork of the context, and the incomplete flags of the forks are merged into the
+     * context on the calling thread. The list is marked as incomplete if a provider exceeded the budget.
+     */
+    private static List<CompletionItem> fanOut(List<BalCompletionProvider<Node>> providers, Node node,
+                                               BalCompletionContext ctx) {
+        List<Callable<ProviderResult>> tasks = new ArrayList<>();
+        for (BalCompletionProvider<Node> provider : providers) {
+            BalCompletionContext providerCtx = ctx.fork();
+            tasks.add(() -> new ProviderResult(provider.getCompletions(node, providerCtx),
+                    providerCtx.isIncomplete()));
+        }
+        BudgetedFanOut.Result<ProviderResult> results = BudgetedFanOut.invokeAll(tasks, PROVIDER_TIME_BUDGET_MS,
+                cause -> ctx.clientLogManager().publishError("Completion provider failed: " + cause.getMessage()));
+
+        List<CompletionItem> items = new ArrayList<>();
+        boolean incomplete = results.isTimedOut();
+        for (ProviderResult result : results.getValues()) {
+            items.addAll(result.items);
+            incomplete |= result.incomplete;
+        }
+        if (incomplete) {
+            ctx.setIncomplete(true);
+        }
+
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BalCompletionProvider<Node> castProvider(BalCompletionProvider<?> provider) {
+        return (BalCompletionProvider<Node>) provider;
+    }
+
+    private static class ProviderResult {
+        private final List<CompletionItem> items;
+        private final boolean incomplete;
+
+        private ProviderResult(List<CompletionItem> items, boolean incomplete) {
+            this.items = items;
+            this.incomplete = incomplete;
+        }
     }
 }
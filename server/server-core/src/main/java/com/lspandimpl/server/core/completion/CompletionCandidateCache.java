@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.completion;
+
+import com.lspandimpl.server.api.context.BalCompletionContext;
+import com.lspandimpl.server.api.context.LSContext;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.projects.Document;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the visible symbols for completion per enclosing scope of a document snapshot.
+ * <p>
+ * The project model creates a new {@link Document} instance whenever the module is modified, hence the document
+ * instance is used as the version of the cached entries. Within a snapshot, the symbols are kept sorted by name so
+ * that the typed prefix can be looked up with a binary search before any completion item is materialized.
+ * <p>
+ * Each snapshot also keeps a symbol handle table. Completion items carry only a compact handle to the symbol and the
+ * expensive properties such as the detail and the documentation are computed from the handle upon resolve.
+ *
+ * @since 1.0.0
+ */
+public class CompletionCandidateCache {
+    private static final LSContext.Key<CompletionCandidateCache> CANDIDATE_CACHE_KEY = new LSContext.Key<>();
+    private static final int MAX_DOCUMENTS = 16;
+    private static final int MAX_SCOPES_PER_DOCUMENT = 32;
+    private static final AtomicInteger SNAPSHOT_IDS = new AtomicInteger();
+
+    private final Map<Path, DocumentEntry> entries = new LinkedHashMap<>(MAX_DOCUMENTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, DocumentEntry> eldest) {
+            return size() > MAX_DOCUMENTS;
+        }
+    };
+
+    public static CompletionCandidateCache getInstance(LSContext serverContext) {
+        CompletionCandidateCache cache = serverContext.get(CANDIDATE_CACHE_KEY);
+        if (cache == null) {
+            cache = new CompletionCandidateCache(serverContext);
+        }
+
+        return cache;
+    }
+
+    private CompletionCandidateCache(LSContext serverContext) {
+        serverContext.put(CANDIDATE_CACHE_KEY, this);
+    }
+
+    /**
+     * Get the visible symbols at the cursor whose names start with the given prefix.
+     * <p>
+     * The semantic model is queried only once per scope and document snapshot. Subsequent requests within the same
+     * scope are served from the sorted candidate list.
+     *
+     * @param context completion context
+     * @param prefix  typed prefix at the cursor, matched case-insensitively
+     * @return {@link List} of matching symbols sorted by name
+     */
+    public List<Symbol> getSymbols(BalCompletionContext context, String prefix) {
+        Optional<Document> document = context.currentDocument();
+        if (document.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String scopeKey = getScopeKey(context);
+        Path path = context.getPath();
+        SortedCandidates candidates;
+        synchronized (this.entries) {
+            DocumentEntry entry = this.entries.get(path);
+            if (entry == null || entry.document != document.get()) {
+                entry = new DocumentEntry(document.get());
+                this.entries.put(path, entry);
+            }
+            candidates = entry.scopes.get(scopeKey);
+        }
+        if (candidates == null) {
+            // Compute outside the lock since the semantic query can be expensive
+            candidates = new SortedCandidates(context.visibleSymbols());
+            synchronized (this.entries) {
+                DocumentEntry entry = this.entries.get(path);
+                if (entry != null && entry.document == document.get()) {
+                    entry.scopes.put(scopeKey, candidates);
+                }
+            }
+        }
+
+        return candidates.withPrefix(prefix);
+    }
+
+    /**
+     * Register the symbol in the handle table of the current document snapshot.
+     *
+     * @param path   document path
+     * @param symbol symbol to be registered
+     * @return {@link Optional} handle of the symbol, empty if the document snapshot is no longer cached
+     */
+    public Optional<String> getHandle(Path path, Symbol symbol) {
+        synchronized (this.entries) {
+            DocumentEntry entry = this.entries.get(path);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            Integer index = entry.handles.get(symbol);
+            if (index == null) {
+                index = entry.symbols.size();
+                entry.symbols.add(symbol);
+                entry.handles.put(symbol, index);
+            }
+
+            return Optional.of(entry.id + ":" + index);
+        }
+    }
+
+    /**
+     * Get the symbol registered with the given handle.
+     *
+     * @param path   document path
+     * @param handle symbol handle
+     * @return {@link Optional} symbol, empty if the handle belongs to a stale document snapshot
+     */
+    public Optional<Symbol> getSymbol(Path path, String handle) {
+        int separator = handle.indexOf(':');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        int snapshotId;
+        int index;
+        try {
+            snapshotId = Integer.parseInt(handle.substring(0, separator));
+            index = Integer.parseInt(handle.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        synchronized (this.entries) {
+            DocumentEntry entry = this.entries.get(path);
+            if (entry == null || entry.id != snapshotId || index < 0 || index >= entry.symbols.size()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(entry.symbols.get(index));
+        }
+    }
+
+    /**
+     * Remove the cached candidates of the given document.
+     *
+     * @param path document path
+     */
+    public void invalidate(Path path) {
+        synchronized (this.entries) {
+            this.entries.remove(path);
+        }
+    }
+
+    /**
+     * Symbols visible anywhere within a single statement (or module member) are the same, unless the cursor is within
+     * a construct introducing bindings inside the statement, such as let expressions, query expressions, match clauses
+     * and anonymous functions. Therefore the innermost statement enclosing the cursor is used as the scope, and the
+     * cursor offset becomes part of the key when the cursor is within such a construct or directly within a block.
+     * The variable of a declaration is not visible within its own initializer, hence the initializer is keyed apart.
+     */
+    private static String getScopeKey(BalCompletionContext context) {
+        NonTerminalNode node = context.getNodeAtCursor();
+        int cursor = context.getCursorPositionInTree();
+        if (node.kind() == SyntaxKind.MODULE_PART) {
+            return "module";
+        }
+        if (isScopeBlock(node)) {
+            return node.kind() + ":" + node.textRange().startOffset() + "@" + cursor;
+        }
+        boolean positional = introducesBindings(node);
+        while (node.parent() != null && !isScopeBlock(node.parent())) {
+            node = node.parent();
+            positional |= introducesBindings(node);
+        }
+
+        String key = node.kind() + ":" + node.textRange().startOffset();
+        if (positional) {
+            return key + "@" + cursor;
+        }
+        if (node.kind() == SyntaxKind.LOCAL_VAR_DECL) {
+            Optional<ExpressionNode> initializer = ((VariableDeclarationNode) node).initializer();
+            if (initializer.isPresent() && cursor >= initializer.get().textRange().startOffset()) {
+                return key + ":initializer";
+            }
+        }
+
+        return key;
+    }
+
+    private static boolean introducesBindings(NonTerminalNode node) {
+        switch (node.kind()) {
+            case LET_EXPRESSION:
+            case QUERY_EXPRESSION:
+            case QUERY_ACTION:
+            case MATCH_CLAUSE:
+            case ON_FAIL_CLAUSE:
+            case EXPLICIT_ANONYMOUS_FUNCTION_EXPRESSION:
+            case IMPLICIT_ANONYMOUS_FUNCTION_EXPRESSION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isScopeBlock(NonTerminalNode node) {
+        return node.kind() == SyntaxKind.FUNCTION_BODY_BLOCK
+                || node.kind() == SyntaxKind.BLOCK_STATEMENT
+                || node.kind() == SyntaxKind.MODULE_PART;
+    }
+
+    private static class DocumentEntry {
+        private final int id = SNAPSHOT_IDS.incrementAndGet();
+        private final Document document;
+        private final List<Symbol> symbols = new ArrayList<>();
+        private final Map<Symbol, Integer> handles = new IdentityHashMap<>();
+        private final Map<String, SortedCandidates> scopes =
+                new LinkedHashMap<>(MAX_SCOPES_PER_DOCUMENT, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, SortedCandidates> eldest) {
+                        return size() > MAX_SCOPES_PER_DOCUMENT;
+                    }
+                };
+
+        private DocumentEntry(Document document) {
+            this.document = document;
+        }
+    }
+
+    /**
+     * Visible symbols of a scope sorted by the lower cased name.
+     */
+    private static class SortedCandidates {
+        private final Symbol[] symbols;
+        private final String[] names;
+
+        private SortedCandidates(List<Symbol> visibleSymbols) {
+            List<Symbol> named = new ArrayList<>(visibleSymbols.size());
+            for (Symbol symbol : visibleSymbols) {
+                if (symbol.getName().isPresent()) {
+                    named.add(symbol);
+                }
+            }
+            named.sort(Comparator.comparing(symbol -> symbol.getName().get().toLowerCase(Locale.ROOT)));
+            this.symbols = named.toArray(new Symbol[0]);
+            this.names = new String[this.symbols.length];
+            for (int i = 0; i < this.symbols.length; i++) {
+                this.names[i] = this.symbols[i].getName().get().toLowerCase(Locale.ROOT);
+            }
+        }
+
+        private List<Symbol> withPrefix(String prefix) {
+            if (prefix.isEmpty()) {
+                return Arrays.asList(this.symbols);
+            }
+            String lowerCasePrefix = prefix.toLowerCase(Locale.ROOT);
+            int start = lowerBound(lowerCasePrefix);
+            int end = start;
+            while (end < this.names.length && this.names[end].startsWith(lowerCasePrefix)) {
+                end++;
+            }
+
+            return Arrays.asList(this.symbols).subList(start, end);
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = this.names.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.names[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -3,15 +3,32 @@ package com.lspandimpl.server.core.completion;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.lspandimpl.server.api.context.BalCompletionResolveContext;
+import com.lspandimpl.server.api.context.BaseOperationContext;
 import com.lspandimpl.server.core.completion.resolve.AutoImportTextEditData;
+import com.lspandimpl.server.core.completion.resolve.SymbolHandleData;
 import com.lspandimpl.server.core.completion.utils.TextEditGenerator;
 import com.lspandimpl.server.core.utils.CommonUtils;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.VariableSymbol;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionItemTag;
+import org.eclipse.lsp4j.CompletionItemTagSupportCapabilities;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public class CompletionItemResolver {
@@ -23,6 +40,10 @@ public class CompletionItemResolver {
     public static CompletionItem
     resolve(BalCompletionResolveContext context) {
         CompletionItem unresolved = context.unresolved();
+        Optional<SymbolHandleData> symbolData = getSymbolHandleData(unresolved.getData());
+        if (symbolData.isPresent()) {
+            return resolveSymbol(context, unresolved, symbolData.get());
+        }
         Optional<AutoImportTextEditData> data = getAutoImportTextEditData(unresolved.getData());
         if (data.isEmpty()) {
             return unresolved;
@@ -38,6 +59,123 @@ public class CompletionItemResolver {
 
         return clone;
     }
+
+    /**
+     * Set the deprecated tag for the item if the symbol is annotated as deprecated and the client supports the tag.
+     *
+     * @param symbol  symbol of the completion item
+     * @param context operation context
+     * @param cItem   completion item to be modified
+     */
+    static void setTags(Symbol symbol, BaseOperationContext context, CompletionItem cItem) {
+        List<AnnotationSymbol> annotations;
+        switch (symbol.kind()) {
+            case CLASS:
+                annotations = ((ClassSymbol) symbol).annotations();
+                break;
+            case FUNCTION:
+                annotations = ((FunctionSymbol) symbol).annotations();
+                break;
+            case TYPE_DEFINITION:
+                annotations = ((TypeDefinitionSymbol) symbol).annotations();
+                break;
+            default:
+                annotations = Collections.emptyList();
+                break;
+        }
+        CompletionItemCapabilities itemCapabilities =
+                context.clientCapabilities().getTextDocument()
+                        .getCompletion().getCompletionItem();
+        CompletionItemTagSupportCapabilities tagSupport =
+                itemCapabilities.getTagSupport();
+        List<CompletionItemTag> supportedTags = tagSupport.getValueSet();
+
+        Optional<AnnotationSymbol> deprecatedAnnotation = annotations.stream()
+                .filter(annot -> annot.getName().orElse("").equals("deprecated"))
+                .findAny();
+
+        if (deprecatedAnnotation.isPresent() &&
+                supportedTags.contains(CompletionItemTag.Deprecated)) {
+            cItem.setTags(Collections.singletonList(CompletionItemTag.Deprecated));
+        }
+    }
+
+    private static CompletionItem resolveSymbol(BalCompletionResolveContext context, CompletionItem unresolved,
+                                                SymbolHandleData data) {
+        Optional<Symbol> symbol = context.resolveSymbol(data.getUri(), data.getHandle());
+        if (symbol.isEmpty()) {
+            // The document has been changed after the completion, hence the handle is stale
+            return unresolved;
+        }
+        setDetail(symbol.get(), unresolved);
+        setDocumentation(symbol.get(), context, unresolved);
+        if (unresolved.getTags() == null) {
+            setTags(symbol.get(), context, unresolved);
+        }
+
+        return unresolved;
+    }
+
+    private static void setDetail(Symbol symbol, CompletionItem cItem) {
+        String detail;
+        switch (symbol.kind()) {
+            case FUNCTION:
+                Optional<TypeSymbol> tSymbol =
+                        ((FunctionSymbol) symbol).typeDescriptor()
+                                .returnTypeDescriptor();
+                detail = tSymbol.isPresent() ? tSymbol.get().signature() : "()";
+                break;
+            case TYPE_DEFINITION:
+                detail = ((TypeDefinitionSymbol) symbol).typeDescriptor().signature();
+                break;
+            case VARIABLE:
+                detail = ((VariableSymbol) symbol).typeDescriptor().signature();
+                break;
+            default:
+                return;
+        }
+
+        cItem.setDetail(detail);
+    }
+
+    private static void setDocumentation(Symbol symbol, BaseOperationContext context, CompletionItem cItem) {
+        Optional<Documentation> documentation;
+
+        switch (symbol.kind()) {
+            case CLASS:
+                documentation = ((ClassSymbol) symbol).documentation();
+                break;
+            case FUNCTION:
+                documentation = ((FunctionSymbol) symbol).documentation();
+                break;
+            case TYPE_DEFINITION:
+                documentation = ((TypeDefinitionSymbol) symbol).documentation();
+                break;
+            default:
+                documentation = Optional.empty();
+                break;
+        }
+        if (documentation.isEmpty() || documentation.get().description().isEmpty()) {
+            return;
+        }
+        CompletionItemCapabilities capabilities =
+                context.clientCapabilities().getTextDocument()
+                        .getCompletion().getCompletionItem();
+        String description = documentation.get().description().get();
+        List<String> docFormat = capabilities.getDocumentationFormat();
+        Either<String, MarkupContent> itemDocs;
+        if (docFormat.contains(MarkupKind.MARKDOWN)) {
+            MarkupContent markupContent = new MarkupContent();
+            markupContent.setKind(MarkupKind.MARKDOWN);
+            markupContent.setValue("## Description " + CommonUtils.MD_LINE_SEPARATOR + description);
+
+            itemDocs = Either.forRight(markupContent);
+        } else {
+            itemDocs = Either.forLeft(description);
+        }
+
+        cItem.setDocumentation(itemDocs);
+    }
     
     private static CompletionItem clone(CompletionItem from) {
         CompletionItem clone = new CompletionItem();
@@ -49,6 +187,17 @@ public class CompletionItemResolver {
         return from;
     }
 
+    private static Optional<SymbolHandleData> getSymbolHandleData(Object jsonObject) {
+        if (!(jsonObject instanceof JsonObject) || !((JsonObject) jsonObject).has("handle")) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(gson.fromJson((JsonObject) jsonObject, SymbolHandleData.class));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
     private static Optional<AutoImportTextEditData> getAutoImportTextEditData(Object jsonObject) {
         if (!(jsonObject instanceof JsonObject)) {
             return Optional.empty();
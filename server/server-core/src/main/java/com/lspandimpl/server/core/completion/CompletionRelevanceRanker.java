@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.completion;
+
+import com.lspandimpl.server.api.context.BalCompletionContext;
+import com.lspandimpl.server.api.context.LSContext;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ConstantSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.VariableSymbol;
+import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
+import io.ballerina.compiler.syntax.tree.BindingPatternNode;
+import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ranks the completion candidates by the relevance to the cursor context.
+ * <p>
+ * A candidate is scored by,
+ * <ul>
+ *     <li>Whether its type matches the type expected at the cursor</li>
+ *     <li>Scope proximity, where the locals declared closer to the cursor precede the module level symbols</li>
+ *     <li>Recency of use, based on the items recently accepted in the client</li>
+ *     <li>Usage frequency, based on the number of references to the name within the document</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+public class CompletionRelevanceRanker {
+    private static final LSContext.Key<CompletionRelevanceRanker> RELEVANCE_RANKER_KEY = new LSContext.Key<>();
+    private static final int MAX_RECENT_NAMES = 32;
+    private static final int MAX_DOCUMENTS = 16;
+
+    private static final int EXPECTED_TYPE_SCORE = 100;
+    private static final int LOCAL_SCOPE_SCORE = 40;
+    private static final int MAX_DISTANCE_SCORE = 10;
+    private static final int DISTANCE_STEP = 200;
+    private static final int CURRENT_FILE_SCORE = 20;
+    private static final int MAX_RECENCY_SCORE = 20;
+    private static final int MAX_FREQUENCY_SCORE = 20;
+
+    private final Map<String, Boolean> recentNames = new LinkedHashMap<>(MAX_RECENT_NAMES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_RECENT_NAMES;
+        }
+    };
+    private final Map<Path, UsageCounts> usageCounts = new LinkedHashMap<>(MAX_DOCUMENTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, UsageCounts> eldest) {
+            return size() > MAX_DOCUMENTS;
+        }
+    };
+
+    public static CompletionRelevanceRanker getInstance(LSContext serverContext) {
+        CompletionRelevanceRanker ranker = serverContext.get(RELEVANCE_RANKER_KEY);
+        if (ranker == null) {
+            ranker = new CompletionRelevanceRanker(serverContext);
+        }
+
+        return ranker;
+    }
+
+    private CompletionRelevanceRanker(LSContext serverContext) {
+        serverContext.put(RELEVANCE_RANKER_KEY, this);
+    }
+
+    /**
+     * Get the sort text for the given rank, so that the client keeps the server side order.
+     *
+     * @param rank position of the item in the ranked list
+     * @return {@link String} sort text
+     */
+    public static String toSortText(int rank) {
+        return String.format("%05d", rank);
+    }
+
+    /**
+     * Order the symbols by the relevance, most relevant first.
+     *
+     * @param context completion context
+     * @param symbols candidate symbols
+     * @return {@link List} of ranked symbols
+     */
+    public List<Symbol> rank(BalCompletionContext context, List<Symbol> symbols) {
+        if (symbols.size() < 2) {
+            return symbols;
+        }
+        Optional<String> expectedType = getExpectedType(context);
+        Optional<Location> enclosingBody = getEnclosingFunctionBody(context);
+        String fileName = context.getPath().getFileName().toString();
+        int cursor = context.getCursorPositionInTree();
+        Map<String, Integer> counts = this.getUsageCounts(context);
+        List<String> recent;
+        synchronized (this.recentNames) {
+            recent = new ArrayList<>(this.recentNames.keySet());
+        }
+
+        Map<Symbol, Integer> scores = new IdentityHashMap<>();
+        for (Symbol symbol : symbols) {
+            String name = symbol.getName().orElse("");
+            int score = 0;
+            if (expectedType.isPresent() && expectedType.equals(getTypeSignature(symbol))) {
+                score += EXPECTED_TYPE_SCORE;
+            }
+            Optional<Location> location = symbol.getLocation();
+            if (location.isPresent() && location.get().lineRange().filePath().equals(fileName)) {
+                int declaredAt = location.get().textRange().startOffset();
+                if (enclosingBody.isPresent() && within(declaredAt, enclosingBody.get())) {
+                    int distance = Math.max(0, cursor - declaredAt) / DISTANCE_STEP;
+                    score += LOCAL_SCOPE_SCORE + Math.max(0, MAX_DISTANCE_SCORE - distance);
+                } else {
+                    score += CURRENT_FILE_SCORE;
+                }
+            }
+            // Most recently used names are at the end of the access ordered list
+            int recency = recent.lastIndexOf(name);
+            if (recency >= 0) {
+                score += Math.max(0, MAX_RECENCY_SCORE - (recent.size() - 1 - recency));
+            }
+            score += Math.min(MAX_FREQUENCY_SCORE, counts.getOrDefault(name, 0));
+            scores.put(symbol, score);
+        }
+
+        List<Symbol> ranked = new ArrayList<>(symbols);
+        // Sorting is stable, hence the symbols with the same score remain sorted by the name
+        ranked.sort(Comparator.comparingInt((Symbol symbol) -> scores.get(symbol)).reversed());
+
+        return ranked;
+    }
+
+    /**
+     * Record that a completion item with the given name has been used.
+     *
+     * @param name name of the symbol
+     */
+    public void recordUsage(String name) {
+        synchronized (this.recentNames) {
+            this.recentNames.put(name, Boolean.TRUE);
+        }
+    }
+
+    private Map<String, Integer> getUsageCounts(BalCompletionContext context) {
+        Optional<Document> document = context.currentDocument();
+        if (document.isEmpty()) {
+            return new HashMap<>();
+        }
+        Path path = context.getPath();
+        synchronized (this.usageCounts) {
+            UsageCounts cached = this.usageCounts.get(path);
+            if (cached != null && cached.document == document.get()) {
+                return cached.counts;
+            }
+        }
+        IdentifierCounter counter = new IdentifierCounter();
+        document.get().syntaxTree().rootNode().accept(counter);
+        synchronized (this.usageCounts) {
+            this.usageCounts.put(path, new UsageCounts(document.get(), counter.counts));
+        }
+
+        return counter.counts;
+    }
+
+    /**
+     * Get the type expected at the cursor. Supports the initializers of variable declarations, right hand side of
+     * assignments and the return statements.
+     */
+    private static Optional<String> getExpectedType(BalCompletionContext context) {
+        Optional<SemanticModel> semanticModel = context.compilerManager().getSemanticModel(context.getPath());
+        Optional<Document> document = context.currentDocument();
+        if (semanticModel.isEmpty() || document.isEmpty()) {
+            return Optional.empty();
+        }
+        NonTerminalNode node = context.getNodeAtCursor();
+        while (node != null && node.kind() != SyntaxKind.FUNCTION_BODY_BLOCK
+                && node.kind() != SyntaxKind.MODULE_PART) {
+            switch (node.kind()) {
+                case LOCAL_VAR_DECL:
+                    BindingPatternNode bindingPattern =
+                            ((VariableDeclarationNode) node).typedBindingPattern().bindingPattern();
+                    if (bindingPattern.kind() != SyntaxKind.CAPTURE_BINDING_PATTERN) {
+                        return Optional.empty();
+                    }
+                    IdentifierToken varName = ((CaptureBindingPatternNode) bindingPattern).variableName();
+                    return semanticModel.get().symbol(document.get(), varName.lineRange().startLine())
+                            .flatMap(CompletionRelevanceRanker::getTypeSignature);
+                case ASSIGNMENT_STATEMENT:
+                    return semanticModel.get().typeOf(((AssignmentStatementNode) node).varRef().lineRange())
+                            .map(TypeSymbol::signature);
+                case RETURN_STATEMENT:
+                    NonTerminalNode parent = node.parent();
+                    while (parent != null && parent.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+                        parent = parent.parent();
+                    }
+                    if (parent == null) {
+                        return Optional.empty();
+                    }
+                    return semanticModel.get().symbol(parent).flatMap(CompletionRelevanceRanker::getTypeSignature);
+                default:
+                    node = node.parent();
+                    break;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static Optional<Location> getEnclosingFunctionBody(BalCompletionContext context) {
+        NonTerminalNode node = context.getNodeAtCursor();
+        while (node != null && node.kind() != SyntaxKind.FUNCTION_BODY_BLOCK) {
+            node = node.parent();
+        }
+
+        return Optional.ofNullable(node).map(NonTerminalNode::location);
+    }
+
+    private static boolean within(int offset, Location location) {
+        return location.textRange().startOffset() <= offset && offset <= location.textRange().endOffset();
+    }
+
+    /**
+     * Get the signature of the value type of the symbol. For functions the return type is considered.
+     */
+    private static Optional<String> getTypeSignature(Symbol symbol) {
+        switch (symbol.kind()) {
+            case VARIABLE:
+                return Optional.of(((VariableSymbol) symbol).typeDescriptor().signature());
+            case CONSTANT:
+                return Optional.of(((ConstantSymbol) symbol).typeDescriptor().signature());
+            case FUNCTION:
+                return ((FunctionSymbol) symbol).typeDescriptor().returnTypeDescriptor().map(TypeSymbol::signature);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static class UsageCounts {
+        private final Document document;
+        private final Map<String, Integer> counts;
+
+        private UsageCounts(Document document, Map<String, Integer> counts) {
+            this.document = document;
+            this.counts = counts;
+        }
+    }
+
+    /**
+     * Counts the occurrences of each identifier in the document.
+     */
+    private static class IdentifierCounter extends NodeVisitor {
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        @Override
+        public void visit(IdentifierToken identifier) {
+            this.counts.merge(identifier.text(), 1, Integer::sum);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.lspandimpl.server.api.context.BalCompletionContext;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import org.eclipse.lsp4j.CompletionItem;
 
 import java.util.ArrayList;
@@ -15,7 +16,7 @@ public class FunctionBodyNodeContextProvider extends
         BalCompletionProviderImpl<FunctionBodyBlockNode> {
 
     public FunctionBodyNodeContextProvider() {
-        super(FunctionBodyBlockNode.class);
+        super(SyntaxKind.FUNCTION_BODY_BLOCK);
     }
 
     @Override
@@ -24,22 +25,34 @@ public class FunctionBodyNodeContextProvider extends
                    BalCompletionContext context) {
         
         List<CompletionItem> completionItems = new ArrayList<>();
-        List<Symbol> symbols = context.visibleSymbols().stream()
+        String prefix = this.getTypedPrefix(context);
+        List<Symbol> symbols = context.visibleSymbols(prefix).stream()
                 .filter(s -> s.kind() == SymbolKind.TYPE_DEFINITION
                         || s.kind() == SymbolKind.VARIABLE
                         || s.kind() == SymbolKind.CONSTANT
                         || s.kind() ==SymbolKind.FUNCTION)
                 .collect(Collectors.toList());
 
-        completionItems.addAll(this.convert(symbols, context));
-        completionItems.addAll(this.getFunctionBodySnippets(context));
+        completionItems.addAll(this.convert(context.rank(symbols), context));
+        for (CompletionItem snippet : this.getFunctionBodySnippets(context)) {
+            // A keyword snippet matching the typed prefix is more likely than the symbols
+            if (!prefix.isEmpty() && snippet.getLabel().startsWith(prefix)) {
+                completionItems.add(0, snippet);
+            } else {
+                completionItems.add(snippet);
+            }
+        }
+        this.sort(node, context, completionItems);
         
         return completionItems;
     }
 
     @Override
     public void sort(FunctionBodyBlockNode node, BalCompletionContext context, List<CompletionItem> items) {
-        
+        // Items are already in the ranked order
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setSortText(CompletionRelevanceRanker.toSortText(i));
+        }
     }
 
     @Override
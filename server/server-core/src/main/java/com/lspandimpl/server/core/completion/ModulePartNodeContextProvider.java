@@ -7,6 +7,7 @@ import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.LinePosition;
 import org.eclipse.lsp4j.CompletionItem;
@@ -25,7 +26,7 @@ public class ModulePartNodeContextProvider extends
     private final String lineSeparator = System.lineSeparator();
 
     public ModulePartNodeContextProvider() {
-        super(ModulePartNode.class);
+        super(SyntaxKind.MODULE_PART);
     }
 
     @Override
@@ -42,15 +43,12 @@ public class ModulePartNodeContextProvider extends
     @Override
     public void sort(ModulePartNode node, BalCompletionContext context,
                      List<CompletionItem> items) {
-        items.forEach(completionItem -> {
-            if (completionItem.getKind()
-                    == CompletionItemKind.Snippet) {
-                // Snippets are given the highest priority
-                completionItem.setSortText("A");
-            } else {
-                completionItem.setSortText("B");
-            }
-        });
+        for (int i = 0; i < items.size(); i++) {
+            CompletionItem completionItem = items.get(i);
+            // Snippets are given the highest priority and the rest keep the ranked order
+            String group = completionItem.getKind() == CompletionItemKind.Snippet ? "A" : "B";
+            completionItem.setSortText(group + CompletionRelevanceRanker.toSortText(i));
+        }
     }
 
     @Override
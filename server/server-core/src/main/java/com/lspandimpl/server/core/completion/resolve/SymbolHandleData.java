@@ -0,0 +1,25 @@
+package com.lspandimpl.server.core.completion.resolve;
+
+/**
+ * Completion item data referring to a symbol in the per-version symbol handle table.
+ * Detail, documentation and tags of the item are computed from the symbol upon resolve.
+ *
+ * @since 1.0.0
+ */
+public class SymbolHandleData {
+    private final String uri;
+    private final String handle;
+
+    public SymbolHandleData(String uri, String handle) {
+        this.uri = uri;
+        this.handle = handle;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+}
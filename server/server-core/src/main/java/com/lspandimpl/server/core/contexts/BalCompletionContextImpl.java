@@ -1,14 +1,65 @@
 package com.lspandimpl.server.core.contexts;
 
 import com.lspandimpl.server.api.context.BalCompletionContext;
+import com.lspandimpl.server.core.completion.CompletionCandidateCache;
+import com.lspandimpl.server.core.completion.CompletionRelevanceRanker;
+import io.ballerina.compiler.api.symbols.Symbol;
 import org.eclipse.lsp4j.CompletionParams;
 import com.lspandimpl.server.api.context.LSContext;
 
+import java.util.List;
+import java.util.Optional;
+
 public class BalCompletionContextImpl extends BalPosBasedContextImpl implements BalCompletionContext {
+    private static final int MAX_COMPLETION_ITEMS = 100;
     private final LSContext serverContext;
+    private final CompletionParams params;
+    private volatile boolean incomplete = false;
 
     public BalCompletionContextImpl(LSContext serverContext, CompletionParams params) {
         super(serverContext, params.getTextDocument().getUri(), params.getPosition());
         this.serverContext = serverContext;
+        this.params = params;
+    }
+
+    @Override
+    public List<Symbol> visibleSymbols(String prefix) {
+        return CompletionCandidateCache.getInstance(this.serverContext).getSymbols(this, prefix);
+    }
+
+    @Override
+    public Optional<String> symbolHandle(Symbol symbol) {
+        return CompletionCandidateCache.getInstance(this.serverContext).getHandle(this.getPath(), symbol);
+    }
+
+    @Override
+    public List<Symbol> rank(List<Symbol> symbols) {
+        List<Symbol> ranked = CompletionRelevanceRanker.getInstance(this.serverContext).rank(this, symbols);
+        if (ranked.size() <= MAX_COMPLETION_ITEMS) {
+            return ranked;
+        }
+        this.incomplete = true;
+
+        return ranked.subList(0, MAX_COMPLETION_ITEMS);
+    }
+
+    @Override
+    public void setIncomplete(boolean incomplete) {
+        this.incomplete = incomplete;
+    }
+
+    @Override
+    public boolean isIncomplete() {
+        return this.incomplete;
+    }
+
+    @Override
+    public BalCompletionContext fork() {
+        BalCompletionContextImpl fork = new BalCompletionContextImpl(this.serverContext, this.params);
+        fork.setCursorPositionInTree(this.getCursorPositionInTree());
+        fork.setNodeAtCursor(this.getNodeAtCursor());
+        fork.setTokenAtCursor(this.getTokenAtCursor());
+
+        return fork;
     }
 }
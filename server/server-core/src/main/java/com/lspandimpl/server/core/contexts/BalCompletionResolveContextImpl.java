@@ -1,6 +1,8 @@
 package com.lspandimpl.server.core.contexts;
 
 import com.lspandimpl.server.core.compiler.manager.BallerinaCompilerManager;
+import com.lspandimpl.server.core.completion.CompletionCandidateCache;
+import com.lspandimpl.server.core.utils.CommonUtils;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.projects.Document;
 import org.eclipse.lsp4j.CompletionItem;
@@ -65,4 +67,10 @@ public class BalCompletionResolveContextImpl extends BalTextDocumentContextImpl
     public Position getCursorPosition() {
         return null;
     }
+
+    @Override
+    public Optional<Symbol> resolveSymbol(String uri, String handle) {
+        return CompletionCandidateCache.getInstance(this.serverContext)
+                .getSymbol(CommonUtils.uriToPath(uri), handle);
+    }
 }
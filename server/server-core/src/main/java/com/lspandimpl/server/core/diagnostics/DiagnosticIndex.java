@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.diagnostics;
+
+import com.lspandimpl.server.api.context.LSContext;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the compiler diagnostics of the projects, populated whenever the diagnostics are published.
+ * <p>
+ * The diagnostics of each project are recorded along with the package they were computed for. Modifications of the
+ * project create a new package, hence the index of a project is valid only as long as the package of the project
+ * remains the same. Within a valid index, the diagnostics of a file are looked up with a
+ * {@link DiagnosticIntervalTree}, without compiling the project or scanning the diagnostics of the other files.
+ *
+ * @since 1.0.0
+ */
+public class DiagnosticIndex {
+    private static final LSContext.Key<DiagnosticIndex> DIAGNOSTIC_INDEX_KEY = new LSContext.Key<>();
+
+    private final Map<Path, ProjectDiagnostics> projects = new ConcurrentHashMap<>();
+
+    public static DiagnosticIndex getInstance(LSContext serverContext) {
+        DiagnosticIndex index = serverContext.get(DIAGNOSTIC_INDEX_KEY);
+        if (index == null) {
+            index = new DiagnosticIndex(serverContext);
+        }
+
+        return index;
+    }
+
+    private DiagnosticIndex(LSContext serverContext) {
+        serverContext.put(DIAGNOSTIC_INDEX_KEY, this);
+    }
+
+    /**
+     * Replace the indexed diagnostics of the project.
+     *
+     * @param project        project
+     * @param currentPackage package the diagnostics are computed for
+     * @param diagnostics    compiler diagnostics of the package
+     */
+    public void update(Project project, Package currentPackage, Collection<Diagnostic> diagnostics) {
+        Path sourceRoot = project.sourceRoot();
+        Map<Path, List<Diagnostic>> fileDiagnostics = new HashMap<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            fileDiagnostics.computeIfAbsent(getFilePath(project, diagnostic), path -> new ArrayList<>())
+                    .add(diagnostic);
+        }
+        Map<Path, DiagnosticIntervalTree> trees = new HashMap<>();
+        fileDiagnostics.forEach((filePath, diagnosticList) ->
+                trees.put(filePath, new DiagnosticIntervalTree(diagnosticList)));
+        this.projects.put(sourceRoot, new ProjectDiagnostics(currentPackage, trees));
+    }
+
+    /**
+     * Get the diagnostics of the file spanning any of the given lines.
+     *
+     * @param project   current project of the file
+     * @param path      file path
+     * @param startLine first line, inclusive
+     * @param endLine   last line, inclusive
+     * @return {@link Optional} diagnostics, empty if the diagnostics of the current package are not indexed
+     */
+    public Optional<List<Diagnostic>> getDiagnostics(Project project, Path path, int startLine, int endLine) {
+        ProjectDiagnostics projectDiagnostics = this.projects.get(project.sourceRoot());
+        if (projectDiagnostics == null || projectDiagnostics.currentPackage != project.currentPackage()) {
+            return Optional.empty();
+        }
+        DiagnosticIntervalTree tree =
+                projectDiagnostics.trees.getOrDefault(path.normalize(), DiagnosticIntervalTree.EMPTY);
+
+        return Optional.of(tree.getOverlapping(startLine, endLine));
+    }
+
+    /**
+     * Remove the indexed diagnostics of the project.
+     *
+     * @param sourceRoot source root of the project
+     */
+    public void remove(Path sourceRoot) {
+        this.projects.remove(sourceRoot);
+    }
+
+    /**
+     * The source root of a single file project is the file itself. Otherwise, file paths of the diagnostics are
+     * relative to the source root, as in the published diagnostics.
+     */
+    private static Path getFilePath(Project project, Diagnostic diagnostic) {
+        if (project.kind() == ProjectKind.SINGLE_FILE_PROJECT) {
+            return project.sourceRoot().normalize();
+        }
+
+        return project.sourceRoot().resolve(diagnostic.location().lineRange().filePath()).normalize();
+    }
+
+    private static class ProjectDiagnostics {
+        private final Package currentPackage;
+        private final Map<Path, DiagnosticIntervalTree> trees;
+
+        private ProjectDiagnostics(Package currentPackage, Map<Path, DiagnosticIntervalTree> trees) {
+            this.currentPackage = currentPackage;
+            this.trees = trees;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.diagnostics;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable interval tree of the diagnostics of a single file, keyed by the line span of the diagnostics.
+ * <p>
+ * The diagnostics are sorted by the start line, which forms an implicit balanced binary search tree where the middle
+ * of each sub array is the root of the sub tree. Each node keeps the maximum end line within its sub tree, so that
+ * the sub trees which cannot overlap the queried lines are skipped. Hence a query takes O(log n + k) time for k
+ * overlapping diagnostics.
+ *
+ * @since 1.0.0
+ */
+public class DiagnosticIntervalTree {
+    public static final DiagnosticIntervalTree EMPTY = new DiagnosticIntervalTree(new ArrayList<>());
+
+    private final Diagnostic[] diagnostics;
+    private final int[] startLines;
+    private final int[] endLines;
+    private final int[] maxEndLines;
+
+    public DiagnosticIntervalTree(List<Diagnostic> diagnostics) {
+        List<Diagnostic> sorted = new ArrayList<>(diagnostics);
+        sorted.sort(Comparator.comparingInt(diagnostic -> diagnostic.location().lineRange().startLine().line()));
+        this.diagnostics = sorted.toArray(new Diagnostic[0]);
+        this.startLines = new int[this.diagnostics.length];
+        this.endLines = new int[this.diagnostics.length];
+        this.maxEndLines = new int[this.diagnostics.length];
+        for (int i = 0; i < this.diagnostics.length; i++) {
+            LineRange lineRange = this.diagnostics[i].location().lineRange();
+            this.startLines[i] = lineRange.startLine().line();
+            this.endLines[i] = lineRange.endLine().line();
+        }
+        this.computeMaxEndLines(0, this.diagnostics.length);
+    }
+
+    /**
+     * Get the diagnostics spanning any of the lines within the given range.
+     *
+     * @param startLine first line of the range, inclusive
+     * @param endLine   last line of the range, inclusive
+     * @return {@link List} of overlapping diagnostics, ordered by the start line
+     */
+    public List<Diagnostic> getOverlapping(int startLine, int endLine) {
+        List<Diagnostic> overlapping = new ArrayList<>();
+        this.collect(0, this.diagnostics.length, startLine, endLine, overlapping);
+
+        return overlapping;
+    }
+
+    public int size() {
+        return this.diagnostics.length;
+    }
+
+    private int computeMaxEndLines(int low, int high) {
+        if (low >= high) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        int maxEndLine = Math.max(this.endLines[mid],
+                Math.max(this.computeMaxEndLines(low, mid), this.computeMaxEndLines(mid + 1, high)));
+        this.maxEndLines[mid] = maxEndLine;
+
+        return maxEndLine;
+    }
+
+    private void collect(int low, int high, int startLine, int endLine, List<Diagnostic> overlapping) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (this.maxEndLines[mid] < startLine) {
+            // None of the diagnostics in the sub tree reaches the queried lines
+            return;
+        }
+        this.collect(low, mid, startLine, endLine, overlapping);
+        if (this.startLines[mid] > endLine) {
+            // The diagnostics on the right start after the queried lines as well
+            return;
+        }
+        if (this.endLines[mid] >= startLine) {
+            overlapping.add(this.diagnostics[mid]);
+        }
+        this.collect(mid + 1, high, startLine, endLine, overlapping);
+    }
+}
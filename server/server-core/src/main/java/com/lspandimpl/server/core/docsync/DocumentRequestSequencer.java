@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.docsync;
+
+import com.lspandimpl.server.api.context.LSContext;
+import com.lspandimpl.server.core.jfr.DocumentEvent;
+import com.lspandimpl.server.core.jfr.ProviderInvocationEvent;
+import com.lspandimpl.server.core.metrics.ServerMetrics;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Orders the document requests against the document modifications of the same URI.
+ * <p>
+ * Document modifications (open, change and close) are applied in two stages. The syntax stage updates the parsed
+ * editor buffer and is cheap, while the semantic stage loads or updates the project and publishes the diagnostics.
+ * Each stage is executed on its own single thread, since the modifications of documents in the same project derive
+ * the next project snapshot from the previous one. Hence a project being loaded in the semantic stage does not hold
+ * back the syntax stage of the subsequent modifications.
+ * <p>
+ * A request for a URI runs only after the modifications of that URI received before the request have been applied,
+ * while the requests themselves run in parallel. Requests which only need the syntax tree wait for the syntax stage,
+ * the others wait for the semantic stage. If the document is modified while a request is being computed, the result
+ * is stale and the request fails with {@link ResponseErrorCode#ContentModified}, as suggested by the protocol.
+ *
+ * @since 1.0.0
+ */
+public class DocumentRequestSequencer {
+    private static final LSContext.Key<DocumentRequestSequencer> REQUEST_SEQUENCER_KEY = new LSContext.Key<>();
+    private final ExecutorService syntaxExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "document-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService semanticExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "document-semantics");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, CompletableFuture<Void>> pendingSyntaxWrites = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> appliedVersions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> generations = new ConcurrentHashMap<>();
+    private final AtomicInteger nextGeneration = new AtomicInteger();
+    private final ServerMetrics metrics;
+
+    public static DocumentRequestSequencer getInstance(LSContext serverContext) {
+        DocumentRequestSequencer sequencer = serverContext.get(REQUEST_SEQUENCER_KEY);
+        if (sequencer == null) {
+            sequencer = new DocumentRequestSequencer(serverContext);
+        }
+
+        return sequencer;
+    }
+
+    private DocumentRequestSequencer(LSContext serverContext) {
+        serverContext.put(REQUEST_SEQUENCER_KEY, this);
+        this.metrics = ServerMetrics.getInstance(serverContext);
+    }
+
+    /**
+     * Schedule a modification of the document, which only has a semantic stage.
+     *
+     * @param uri     document uri
+     * @param version document version after the modification
+     * @param task    modification task
+     * @return {@link CompletableFuture} completed after the modification
+     */
+    public CompletableFuture<Void> write(String uri, int version, Runnable task) {
+        return this.write(uri, version, () -> {
+        }, task);
+    }
+
+    /**
+     * Schedule a modification of the document.
+     * The version is recorded immediately, so that the requests being computed on the previous version are
+     * identified as stale. The semantic stage starts after the syntax stage of the same modification, and records
+     * the version it applies, which tags the events committed by the semantic stage.
+     *
+     * @param uri          document uri
+     * @param version      document version after the modification
+     * @param syntaxTask   task updating the parsed document
+     * @param semanticTask task updating the project of the document
+     * @return {@link CompletableFuture} completed after both the stages of the modification
+     */
+    public CompletableFuture<Void> write(String uri, int version, Runnable syntaxTask, Runnable semanticTask) {
+        this.versions.put(uri, version);
+        CompletableFuture<Void> syntaxWrite = CompletableFuture.runAsync(syntaxTask, this.syntaxExecutor);
+        // Failures of a modification should not block the subsequent requests
+        CompletableFuture<Void> syntaxSettled = syntaxWrite.handle((result, throwable) -> null);
+        track(this.pendingSyntaxWrites, uri, syntaxSettled);
+        CompletableFuture<Void> write = syntaxSettled.thenRunAsync(() -> {
+            this.appliedVersions.put(uri, version);
+            semanticTask.run();
+        }, this.semanticExecutor);
+        track(this.pendingWrites, uri, write.handle((result, throwable) -> null));
+
+        return write;
+    }
+
+    /**
+     * Schedule a request for the document after the pending modifications of the document.
+     *
+     * @param method LSP method of the request
+     * @param uri    document uri
+     * @param task   request task
+     * @param <T>    result type
+     * @return {@link CompletableFuture} result of the request
+     */
+    public <T> CompletableFuture<T> read(String method, String uri, Supplier<T> task) {
+        return this.readAfter(this.pendingWrites.get(uri), method, uri, task);
+    }
+
+    /**
+     * Schedule a request which only needs the syntax tree of the document, after the syntax stage of the pending
+     * modifications of the document. Such requests are served while the project of the document is being loaded.
+     *
+     * @param method LSP method of the request
+     * @param uri    document uri
+     * @param task   request task
+     * @param <T>    result type
+     * @return {@link CompletableFuture} result of the request
+     */
+    public <T> CompletableFuture<T> readSyntax(String method, String uri, Supplier<T> task) {
+        return this.readAfter(this.pendingSyntaxWrites.get(uri), method, uri, task);
+    }
+
+    /**
+     * Get the last known version of the document.
+     *
+     * @param uri document uri
+     * @return {@link Integer} version, -1 if the document is not open
+     */
+    public int getVersion(String uri) {
+        return this.versions.getOrDefault(uri, -1);
+    }
+
+    /**
+     * Record that the document has been opened. Each open gets a new generation, since a document closed and
+     * reopened by the client usually has the same version number.
+     *
+     * @param uri document uri
+     */
+    public void open(String uri) {
+        this.generations.put(uri, this.nextGeneration.incrementAndGet());
+    }
+
+    /**
+     * Get the generation of the document, which identifies the open of the document.
+     *
+     * @param uri document uri
+     * @return {@link Integer} generation, -1 if the document is not open
+     */
+    public int getGeneration(String uri) {
+        return this.generations.getOrDefault(uri, -1);
+    }
+
+    /**
+     * Forget the version of a closed document, unless the document has been reopened since the close.
+     *
+     * @param uri        document uri
+     * @param generation generation of the document when it was closed
+     */
+    public void remove(String uri, int generation) {
+        // Versions are removed within the update of the generation, which orders them against a concurrent open
+        this.generations.computeIfPresent(uri, (key, current) -> {
+            if (current != generation) {
+                return current;
+            }
+            this.versions.remove(uri);
+            this.appliedVersions.remove(uri);
+            return null;
+        });
+    }
+
+    /**
+     * Stop the threads of the stages. The modifications and the requests already scheduled are still completed,
+     * while the subsequent ones are rejected.
+     */
+    public void close() {
+        this.syntaxExecutor.shutdown();
+        this.semanticExecutor.shutdown();
+    }
+
+    /**
+     * End the event and commit it with the document details, if the event is enabled in the recording. The event is
+     * tagged with the version applied by the semantic stage, which lags behind the last received version.
+     *
+     * @param event event to be committed
+     * @param path  document path
+     */
+    public void commitEvent(DocumentEvent event, Path path) {
+        event.end();
+        if (event.shouldCommit()) {
+            String uri = path.toUri().toString();
+            this.commit(event, uri, this.appliedVersions.getOrDefault(uri, -1));
+        }
+    }
+
+    private void commit(DocumentEvent event, String uri, int version) {
+        event.uri = uri;
+        event.version = version;
+        event.commit();
+    }
+
+    private <T> CompletableFuture<T> readAfter(CompletableFuture<Void> pendingWrite, String method, String uri,
+                                               Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        // The version at arrival is the one the request is computed for, since the modifications received later
+        // are not awaited
+        int version = this.getVersion(uri);
+        if (pendingWrite == null) {
+            return CompletableFuture.supplyAsync(() -> this.readVersioned(method, uri, version, task, queuedAt));
+        }
+
+        return pendingWrite.thenApplyAsync(ignore -> this.readVersioned(method, uri, version, task, queuedAt));
+    }
+
+    private static void track(Map<String, CompletableFuture<Void>> pendingWrites, String uri,
+                              CompletableFuture<Void> settled) {
+        pendingWrites.put(uri, settled);
+        settled.thenRun(() -> pendingWrites.remove(uri, settled));
+    }
+
+    private <T> T readVersioned(String method, String uri, int version, Supplier<T> task, long queuedAt) {
+        this.metrics.recordQueueWait(System.nanoTime() - queuedAt);
+        ProviderInvocationEvent event = new ProviderInvocationEvent();
+        event.begin();
+        T result = task.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            this.commit(event, uri, version);
+        }
+        if (version != this.getVersion(uri)) {
+            throw new ResponseErrorException(new ResponseError(ResponseErrorCode.ContentModified,
+                    "Document " + uri + " has been modified while computing the result", null));
+        }
+
+        return result;
+    }
+}
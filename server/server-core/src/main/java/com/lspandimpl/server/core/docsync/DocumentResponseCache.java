@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.docsync;
+
+import com.lspandimpl.server.api.context.LSContext;
+import com.lspandimpl.server.core.metrics.ServerMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Caches the responses of the idempotent document requests, such as the folding ranges and the document symbols,
+ * which the clients repeat for unchanged documents, for example upon focusing or scrolling an editor.
+ * <p>
+ * A response is keyed by the method, the document URI, the document version and the request parameters. Responses
+ * derived from the syntax tree only depend on the content of their own document, while the responses derived from
+ * the semantic model also depend on the other documents of the project. Therefore a modification of a document
+ * evicts the syntax responses of that document along with all the semantic responses, both when the modification
+ * is received and when it has been applied. A response being computed across an eviction is not cached, since it
+ * may reflect the state before the modification. The least recently used responses are evicted when the cache is
+ * full.
+ *
+ * @since 1.0.0
+ */
+public class DocumentResponseCache {
+    private static final LSContext.Key<DocumentResponseCache> RESPONSE_CACHE_KEY = new LSContext.Key<>();
+    private static final int MAX_RESPONSES = 256;
+
+    private final Map<ResponseKey, Object> responses = new LinkedHashMap<>(MAX_RESPONSES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ResponseKey, Object> eldest) {
+            return size() > MAX_RESPONSES;
+        }
+    };
+    private final DocumentRequestSequencer requestSequencer;
+    private final ServerMetrics metrics;
+    private long generation;
+
+    public static DocumentResponseCache getInstance(LSContext serverContext) {
+        DocumentResponseCache cache = serverContext.get(RESPONSE_CACHE_KEY);
+        if (cache == null) {
+            cache = new DocumentResponseCache(serverContext);
+        }
+
+        return cache;
+    }
+
+    private DocumentResponseCache(LSContext serverContext) {
+        serverContext.put(RESPONSE_CACHE_KEY, this);
+        this.requestSequencer = DocumentRequestSequencer.getInstance(serverContext);
+        this.metrics = ServerMetrics.getInstance(serverContext);
+    }
+
+    /**
+     * Get the cached response of a request which only depends on the syntax tree of the document, or schedule the
+     * request with {@link DocumentRequestSequencer#readSyntax(String, String, Supplier)} and cache its response.
+     *
+     * @param method LSP method of the request
+     * @param uri    document uri
+     * @param params request parameters
+     * @param task   request task
+     * @param <T>    result type
+     * @return {@link CompletableFuture} result of the request
+     */
+    public <T> CompletableFuture<T> readSyntax(String method, String uri, Object params, Supplier<T> task) {
+        return this.get(method, uri, params, false,
+                () -> this.requestSequencer.readSyntax(method, uri, task));
+    }
+
+    /**
+     * Get the cached response of a request which depends on the semantic model of the project, or schedule the
+     * request with {@link DocumentRequestSequencer#read(String, String, Supplier)} and cache its response.
+     *
+     * @param method LSP method of the request
+     * @param uri    document uri
+     * @param params request parameters
+     * @param task   request task
+     * @param <T>    result type
+     * @return {@link CompletableFuture} result of the request
+     */
+    public <T> CompletableFuture<T> read(String method, String uri, Object params, Supplier<T> task) {
+        return this.get(method, uri, params, true,
+                () -> this.requestSequencer.read(method, uri, task));
+    }
+
+    /**
+     * Evict the responses which may have been changed by a modification of the given document.
+     *
+     * @param uri modified document uri
+     */
+    public void invalidate(String uri) {
+        synchronized (this.responses) {
+            this.generation++;
+            this.responses.keySet().removeIf(key -> key.semantic || key.uri.equals(uri));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> get(String method, String uri, Object params, boolean semantic,
+                                         Supplier<CompletableFuture<T>> request) {
+        int version = this.requestSequencer.getVersion(uri);
+        if (version < 0) {
+            // Modifications of the documents which are not open are not tracked
+            return request.get();
+        }
+        ResponseKey key = new ResponseKey(method, uri, version, params, semantic);
+        long requestGeneration;
+        synchronized (this.responses) {
+            Object response = this.responses.get(key);
+            if (response != null) {
+                this.metrics.recordResponseCacheHit(method);
+                return CompletableFuture.completedFuture((T) response);
+            }
+            requestGeneration = this.generation;
+        }
+
+        return request.get().thenApply(response -> {
+            if (response != null) {
+                synchronized (this.responses) {
+                    if (requestGeneration == this.generation) {
+                        this.responses.put(key, response);
+                    }
+                }
+            }
+            return response;
+        });
+    }
+
+    private static class ResponseKey {
+        private final String method;
+        private final String uri;
+        private final int version;
+        private final Object params;
+        private final boolean semantic;
+
+        private ResponseKey(String method, String uri, int version, Object params, boolean semantic) {
+            this.method = method;
+            this.uri = uri;
+            this.version = version;
+            this.params = params;
+            this.semantic = semantic;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResponseKey)) {
+                return false;
+            }
+            ResponseKey that = (ResponseKey) o;
+            return this.version == that.version && this.method.equals(that.method) && this.uri.equals(that.uri)
+                    && Objects.equals(this.params, that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.method, this.uri, this.version, this.params);
+        }
+    }
+}
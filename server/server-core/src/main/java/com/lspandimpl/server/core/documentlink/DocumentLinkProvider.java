@@ -2,8 +2,8 @@ package com.lspandimpl.server.core.documentlink;
 
 import com.google.gson.JsonObject;
 import com.lspandimpl.server.core.utils.CommonUtils;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import com.lspandimpl.server.core.outline.DocumentOutline;
+import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.Range;
@@ -13,21 +13,23 @@ import com.lspandimpl.server.core.AbstractProvider;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.regex.Pattern;
 
 public class DocumentLinkProvider extends AbstractProvider {
     private static final String DOC_URI = "uri";
+    private static final Pattern URL_PATTERN =
+            Pattern.compile("(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]");
 
     private DocumentLinkProvider() {
     }
 
     public static List<DocumentLink>
-    getDocumentLink(BalDocumentLinkContext context) {
-        Map<LineRange, String> linkRanges = getLinkRanges(context);
+    getDocumentLink(BalDocumentLinkContext context, DocumentOutline outline) {
+        Map<LineRange, String> linkRanges = getLinkRanges(outline);
         List<DocumentLink> documentLinks = new ArrayList<>();
     /*
     Here we set the target. Target can also be 
@@ -82,15 +84,23 @@ public class DocumentLinkProvider extends AbstractProvider {
         return "http://localhost";
     }
 
-    private static Map<LineRange, String> getLinkRanges(BalDocumentLinkContext context) {
-        Optional<SyntaxTree> syntaxTree = context.compilerManager().getSyntaxTree(context.getPath());
-        if (syntaxTree.isEmpty()) {
-            return Collections.emptyMap();
+    private static Map<LineRange, String> getLinkRanges(DocumentOutline outline) {
+        Map<LineRange, String> linkRanges = new LinkedHashMap<>();
+        for (DocumentOutline.StringLiteral literal : outline.stringLiterals()) {
+            // Here we replace the double quotes at the start and end of the token.
+            // Also we modify the line range to match the url's range after replacing the quotes
+            String text = literal.text().replace("\"", "");
+            if (!URL_PATTERN.matcher(text).find()) {
+                continue;
+            }
+            LineRange tokenLineRange = literal.lineRange();
+            LinePosition start = LinePosition.from(tokenLineRange.startLine().line(),
+                    tokenLineRange.startLine().offset() + 1);
+            LinePosition end = LinePosition.from(tokenLineRange.endLine().line(),
+                    tokenLineRange.endLine().offset() - 1);
+            linkRanges.put(LineRange.from(tokenLineRange.filePath(), start, end), text);
         }
-        ModulePartNode modulePartNode = syntaxTree.get().rootNode();
-        DocumentLinkVisitor linkVisitor = new DocumentLinkVisitor();
-        modulePartNode.accept(linkVisitor);
 
-        return linkVisitor.getLinkRanges();
+        return linkRanges;
     }
 }
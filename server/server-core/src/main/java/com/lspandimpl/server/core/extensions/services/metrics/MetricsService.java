@@ -0,0 +1,19 @@
+package com.lspandimpl.server.core.extensions.services.metrics;
+
+import com.lspandimpl.server.core.metrics.MetricsSnapshot;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+
+import java.util.concurrent.CompletableFuture;
+
+@JsonSegment("$/ballerina")
+public interface MetricsService {
+    /**
+     * Operation name would be picked as metrics and the client will
+     * call the operation $/ballerina/metrics
+     *
+     * @return snapshot of the server metrics
+     */
+    @JsonRequest
+    CompletableFuture<MetricsSnapshot> metrics();
+}
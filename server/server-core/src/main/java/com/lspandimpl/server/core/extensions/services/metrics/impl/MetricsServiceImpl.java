@@ -0,0 +1,21 @@
+package com.lspandimpl.server.core.extensions.services.metrics.impl;
+
+import com.lspandimpl.server.api.context.LSContext;
+import com.lspandimpl.server.core.extensions.services.metrics.MetricsService;
+import com.lspandimpl.server.core.metrics.MetricsSnapshot;
+import com.lspandimpl.server.core.metrics.ServerMetrics;
+
+import java.util.concurrent.CompletableFuture;
+
+public class MetricsServiceImpl implements MetricsService {
+    private final LSContext serverContext;
+
+    public MetricsServiceImpl(LSContext serverContext) {
+        this.serverContext = serverContext;
+    }
+
+    @Override
+    public CompletableFuture<MetricsSnapshot> metrics() {
+        return CompletableFuture.supplyAsync(() -> ServerMetrics.getInstance(this.serverContext).getSnapshot());
+    }
+}
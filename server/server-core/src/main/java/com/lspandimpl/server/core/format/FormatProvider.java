@@ -1,11 +1,16 @@
 package com.lspandimpl.server.core.format;
 
 import com.lspandimpl.server.core.utils.CommonUtils;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.eclipse.lsp4j.DocumentFormattingParams;
@@ -14,31 +19,25 @@ import org.eclipse.lsp4j.DocumentRangeFormattingParams;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
-import com.lspandimpl.server.api.context.BalPosBasedContext;
 import com.lspandimpl.server.api.context.BaseOperationContext;
 
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class FormatProvider {
     public static List<TextEdit> format(BaseOperationContext context,
                                         DocumentFormattingParams params) {
         Path path = CommonUtils.uriToPath(params.getTextDocument().getUri());
         SyntaxTree syntaxTree = context.compilerManager()
-                .getSyntaxTree(path).orElseThrow();
+                .getParsedSyntaxTree(path).orElseThrow();
         try {
             // Current ballerina formatter has default behaviour
             // Based on the formatter, formatting options can read and utilize
             // FormattingOptions options = params.getOptions();
-            String formattedSource = Formatter.format(syntaxTree).toSourceCode();
-            LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-            // Replace the full document context
-            Range range = new Range(new Position(0, 0),
-                    new Position(eofPos.line() + 1, eofPos.offset()));
-            TextEdit textEdit = new TextEdit(range, formattedSource);
-
-            return Collections.singletonList(textEdit);
+            // Only the modified minutiae are sent instead of replacing the full document
+            return FormattingDiff.getEdits(syntaxTree, Formatter.format(syntaxTree));
         } catch (FormatterException e) {
             return Collections.emptyList();
         }
@@ -48,7 +47,7 @@ public class FormatProvider {
                                              DocumentRangeFormattingParams params) {
         Path path = CommonUtils.uriToPath(params.getTextDocument().getUri());
         SyntaxTree syntaxTree = context.compilerManager()
-                .getSyntaxTree(path).orElseThrow();
+                .getParsedSyntaxTree(path).orElseThrow();
         try {
             // Current ballerina formatter has default behaviour
             // Based on the formatter, formatting options can read and utilize
@@ -64,57 +63,101 @@ public class FormatProvider {
             LineRange lineRange = LineRange.from(
                     syntaxTree.filePath(),
                     startPos, endPos);
-            SyntaxTree formattedTree
-                    = Formatter.format(syntaxTree, lineRange);
+            TextDocument textDocument = syntaxTree.textDocument();
+            int startOffset = textDocument.textPositionFrom(startPos);
+            int endOffset = textDocument.textPositionFrom(endPos);
+            NonTerminalNode enclosingNode = ((ModulePartNode) syntaxTree.rootNode())
+                    .findNode(TextRange.from(startOffset, endOffset - startOffset));
 
-            LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-            Range updateRange = new Range(new Position(0, 0),
-                    new Position(eofPos.line() + 1, eofPos.offset()));
-            TextEdit textEdit = new TextEdit(updateRange,
-                    formattedTree.toSourceCode());
-
-            return Collections.singletonList(textEdit);
+            return formatWithinMember(syntaxTree, enclosingNode, lineRange);
         } catch (FormatterException e) {
             return Collections.emptyList();
         }
     }
 
-public static List<TextEdit>
-onTypeFormat(BalPosBasedContext context,
-             DocumentOnTypeFormattingParams params) {
-    Path path = CommonUtils
-            .uriToPath(params.getTextDocument().getUri());
-    SyntaxTree syntaxTree = context.compilerManager()
-            .getSyntaxTree(path).orElseThrow();
-    try {
-        // Current ballerina formatter has default behaviour
-        // Based on the formatter, formatting options can read and utilize
-        // FormattingOptions options = params.getOptions();
-        LineRange lRange;
-        NonTerminalNode nodeToFormat = getNodeToFormat(context.getNodeAtCursor());
-        if ((params.getCh().equals("}")
-                && nodeToFormat.kind() == SyntaxKind.FUNCTION_DEFINITION)
-                || (params.getCh().equals(";")
-                && nodeToFormat.kind() == SyntaxKind.LOCAL_VAR_DECL)) {
-            lRange = nodeToFormat.lineRange();
-        } else {
+    /**
+     * Format the statement or the block closed by the typed character. Only the module member enclosing the
+     * construct is parsed and formatted, hence the latency does not depend on the size of the document.
+     */
+    public static List<TextEdit> onTypeFormat(BaseOperationContext context,
+                                              DocumentOnTypeFormattingParams params) {
+        Path path = CommonUtils
+                .uriToPath(params.getTextDocument().getUri());
+        Optional<SyntaxTree> syntaxTree = context.compilerManager().getParsedSyntaxTree(path);
+        if (syntaxTree.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<NonTerminalNode> nodeToFormat =
+                getTypedConstruct(syntaxTree.get(), params.getPosition(), params.getCh());
+        if (nodeToFormat.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            // Current ballerina formatter has default behaviour
+            // Based on the formatter, formatting options can read and utilize
+            // FormattingOptions options = params.getOptions();
+            return formatWithinMember(syntaxTree.get(), nodeToFormat.get(), nodeToFormat.get().lineRange());
+        } catch (FormatterException e) {
             return Collections.emptyList();
         }
+    }
 
-        SyntaxTree formattedTree
-                = Formatter.format(syntaxTree, lRange);
+    /**
+     * Find the construct closed by the typed character, which is the block closed by a closing brace or the
+     * statement closed by a semicolon. Clients send either the position of the typed character or the position
+     * after it.
+     */
+    private static Optional<NonTerminalNode> getTypedConstruct(SyntaxTree syntaxTree, Position position, String ch) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        int offset = syntaxTree.textDocument()
+                .textPositionFrom(LinePosition.from(position.getLine(), position.getCharacter()));
+        int eofOffset = modulePartNode.textRangeWithMinutiae().endOffset();
+        for (int candidate : new int[]{offset - 1, offset}) {
+            if (candidate < 0 || candidate >= eofOffset) {
+                continue;
+            }
+            Token token = modulePartNode.findToken(candidate);
+            if (!token.isMissing() && token.text().equals(ch) && token.textRange().startOffset() == candidate) {
+                return Optional.of(getNodeToFormat(token.parent()));
+            }
+        }
 
-        LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-        Range updateRange = new Range(new Position(0, 0),
-                new Position(eofPos.line() + 1, eofPos.offset()));
-        TextEdit textEdit = new TextEdit(updateRange,
-                formattedTree.toSourceCode());
+        return Optional.empty();
+    }
 
-        return Collections.singletonList(textEdit);
-    } catch (FormatterException e) {
-        return Collections.emptyList();
+    /**
+     * Format the given range of the node, by formatting the module member enclosing the node on its own. The edits
+     * of the member are then relocated to the position of the member within the document.
+     */
+    private static List<TextEdit> formatWithinMember(SyntaxTree syntaxTree, NonTerminalNode node,
+                                                     LineRange lineRange) throws FormatterException {
+        NonTerminalNode member = node;
+        while (member.parent() != null && member.parent().kind() != SyntaxKind.MODULE_PART) {
+            member = member.parent();
+        }
+        String source = syntaxTree.toSourceCode();
+        int memberLine = member.lineRange().startLine().line();
+        int lineStart = syntaxTree.textDocument().textPositionFrom(LinePosition.from(memberLine, 0));
+        if (member.parent() == null || !source.substring(lineStart, member.textRange().startOffset()).isBlank()) {
+            // The range spans multiple members, or another construct precedes the member on the same line
+            return FormattingDiff.getEdits(syntaxTree, Formatter.format(syntaxTree, lineRange));
+        }
+
+        // Trailing minutiae of the member are included, so that the formatter sees the line break after the member
+        String memberSource = source.substring(lineStart, member.textRangeWithMinutiae().endOffset());
+        SyntaxTree memberTree = SyntaxTree.from(TextDocuments.from(memberSource), syntaxTree.filePath());
+        LineRange memberRange = LineRange.from(syntaxTree.filePath(),
+                LinePosition.from(lineRange.startLine().line() - memberLine, lineRange.startLine().offset()),
+                LinePosition.from(lineRange.endLine().line() - memberLine, lineRange.endLine().offset()));
+        List<TextEdit> edits = FormattingDiff.getEdits(memberTree, Formatter.format(memberTree, memberRange));
+        for (TextEdit edit : edits) {
+            Range range = edit.getRange();
+            range.setStart(new Position(range.getStart().getLine() + memberLine, range.getStart().getCharacter()));
+            range.setEnd(new Position(range.getEnd().getLine() + memberLine, range.getEnd().getCharacter()));
+        }
+
+        return edits;
     }
-}
 
     private static NonTerminalNode getNodeToFormat(NonTerminalNode node) {
         if (node.kind() == SyntaxKind.FUNCTION_BODY_BLOCK) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.format;
+
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the minimal text edits transforming a document into its formatted form.
+ * <p>
+ * The formatter only rewrites the minutiae, hence the tokens of the original and the formatted trees are aligned
+ * one to one and an edit is produced only for the text between two tokens which differs, narrowed down to the
+ * modified characters. If the token sequences do not align, a single edit spanning from the first to the last
+ * modified character is produced instead.
+ *
+ * @since 1.0.0
+ */
+public class FormattingDiff {
+    private FormattingDiff() {
+    }
+
+    /**
+     * Get the edits transforming the original tree into the formatted tree.
+     *
+     * @param original  syntax tree of the document
+     * @param formatted formatted syntax tree
+     * @return {@link List} of non overlapping edits in the document order
+     */
+    public static List<TextEdit> getEdits(SyntaxTree original, SyntaxTree formatted) {
+        String source = original.toSourceCode();
+        String formattedSource = formatted.toSourceCode();
+        List<TextEdit> edits = new ArrayList<>();
+        if (source.equals(formattedSource)) {
+            return edits;
+        }
+        TextDocument document = original.textDocument();
+        List<TextRange> tokens = getTokenRanges(original);
+        List<TextRange> formattedTokens = getTokenRanges(formatted);
+        if (!isAligned(source, tokens, formattedSource, formattedTokens)) {
+            addEdit(edits, document, source, 0, source.length(), formattedSource, 0, formattedSource.length());
+            return edits;
+        }
+
+        int end = 0;
+        int formattedEnd = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            TextRange token = tokens.get(i);
+            TextRange formattedToken = formattedTokens.get(i);
+            addEdit(edits, document, source, end, token.startOffset(),
+                    formattedSource, formattedEnd, formattedToken.startOffset());
+            end = token.endOffset();
+            formattedEnd = formattedToken.endOffset();
+        }
+        addEdit(edits, document, source, end, source.length(), formattedSource, formattedEnd, formattedSource.length());
+
+        return edits;
+    }
+
+    private static List<TextRange> getTokenRanges(SyntaxTree syntaxTree) {
+        TokenCollector collector = new TokenCollector();
+        syntaxTree.rootNode().accept(collector);
+
+        return collector.tokens;
+    }
+
+    private static boolean isAligned(String source, List<TextRange> tokens,
+                                     String formattedSource, List<TextRange> formattedTokens) {
+        if (tokens.size() != formattedTokens.size()) {
+            return false;
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            TextRange token = tokens.get(i);
+            TextRange formattedToken = formattedTokens.get(i);
+            if (token.length() != formattedToken.length() || !source.regionMatches(token.startOffset(),
+                    formattedSource, formattedToken.startOffset(), token.length())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Add an edit replacing the original segment with the formatted segment, excluding the common prefix and suffix
+     * of the two segments. No edit is added if the segments are the same.
+     */
+    private static void addEdit(List<TextEdit> edits, TextDocument document, String source, int start, int end,
+                                String formattedSource, int formattedStart, int formattedEnd) {
+        while (start < end && formattedStart < formattedEnd
+                && source.charAt(start) == formattedSource.charAt(formattedStart)) {
+            start++;
+            formattedStart++;
+        }
+        while (start < end && formattedStart < formattedEnd
+                && source.charAt(end - 1) == formattedSource.charAt(formattedEnd - 1)) {
+            end--;
+            formattedEnd--;
+        }
+        if (start == end && formattedStart == formattedEnd) {
+            return;
+        }
+        Range range = new Range(toPosition(document.linePositionFrom(start)),
+                toPosition(document.linePositionFrom(end)));
+        edits.add(new TextEdit(range, formattedSource.substring(formattedStart, formattedEnd)));
+    }
+
+    private static Position toPosition(LinePosition linePosition) {
+        return new Position(linePosition.line(), linePosition.offset());
+    }
+
+    /**
+     * Collects the ranges of the tokens present in the source, in the document order.
+     */
+    private static class TokenCollector extends NodeVisitor {
+        private final List<TextRange> tokens = new ArrayList<>();
+
+        @Override
+        public void visit(Token token) {
+            if (!token.isMissing()) {
+                this.tokens.add(token.textRange());
+            }
+        }
+
+        @Override
+        public void visit(IdentifierToken identifier) {
+            this.visit((Token) identifier);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event recorded while computing and publishing the diagnostics of the project of a document.
+ *
+ * @since 1.0.0
+ */
+@Name("com.lspandimpl.DiagnosticsPublish")
+@Label("Diagnostics Publish")
+@Description("Computing and publishing the diagnostics of the project of a document.")
+public class DiagnosticsPublishEvent extends DocumentEvent {
+    @Label("Diagnostics")
+    public int diagnosticCount;
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the Java Flight Recorder events of the language server, emitted for the work done on a document.
+ * <p>
+ * The duration of an event spans from {@link #begin()} to {@link #end()}. The events are recorded only when enabled
+ * in a recording, e.g. with {@code jcmd <pid> JFR.start}, and the document details should be filled only when
+ * {@link #shouldCommit()} returns true, which keeps the overhead negligible otherwise.
+ *
+ * @since 1.0.0
+ */
+@Category("Ballerina Language Server")
+@StackTrace(false)
+public abstract class DocumentEvent extends Event {
+    @Label("URI")
+    public String uri;
+
+    @Label("Document Version")
+    public int version;
+}
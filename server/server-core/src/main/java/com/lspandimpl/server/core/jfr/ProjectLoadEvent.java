@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event recorded while loading a project of a document, either from the file system or from the shared project
+ * store.
+ *
+ * @since 1.0.0
+ */
+@Name("com.lspandimpl.ProjectLoad")
+@Label("Project Load")
+@Description("Loading a project of a document, either from the file system or from the shared project store.")
+public class ProjectLoadEvent extends DocumentEvent {
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with fixed, exponentially growing millisecond buckets.
+ * Percentiles are approximated with the upper bound of the bucket they fall into.
+ *
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && millis >= BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        this.buckets[bucket].increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulate(nanos);
+    }
+
+    public MetricsSnapshot.Histogram snapshot() {
+        long[] counts = new long[this.buckets.length];
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.buckets[i].sum();
+            count += counts[i];
+        }
+        MetricsSnapshot.Histogram histogram = new MetricsSnapshot.Histogram();
+        histogram.count = count;
+        histogram.maxMs = this.maxNanos.get() / 1_000_000.0;
+        histogram.meanMs = count == 0 ? 0 : this.totalNanos.sum() / 1_000_000.0 / count;
+        histogram.p50Ms = this.percentile(counts, count, 0.5);
+        histogram.p90Ms = this.percentile(counts, count, 0.9);
+        histogram.p99Ms = this.percentile(counts, count, 0.99);
+        Map<String, Long> bucketCounts = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            String bound = i < BUCKET_BOUNDS_MS.length ? "<" + BUCKET_BOUNDS_MS[i] + "ms"
+                    : ">=" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms";
+            bucketCounts.put(bound, counts[i]);
+        }
+        histogram.buckets = bucketCounts;
+
+        return histogram;
+    }
+
+    private double percentile(long[] counts, long count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return BUCKET_BOUNDS_MS[i];
+            }
+        }
+
+        return this.maxNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.metrics;
+
+import java.util.Map;
+
+/**
+ * Point in time view of the {@link ServerMetrics}, returned by the {@code $/ballerina/metrics} request.
+ *
+ * @since 1.0.0
+ */
+public class MetricsSnapshot {
+    long uptimeMs;
+    Map<String, MethodStats> methods;
+    Histogram queueWait;
+    CompilerStats compiler;
+
+    public long getUptimeMs() {
+        return uptimeMs;
+    }
+
+    public Map<String, MethodStats> getMethods() {
+        return methods;
+    }
+
+    public Histogram getQueueWait() {
+        return queueWait;
+    }
+
+    public CompilerStats getCompiler() {
+        return compiler;
+    }
+
+    /**
+     * Statistics of a single LSP method.
+     */
+    public static class MethodStats {
+        long inFlight;
+        long errors;
+        long cancellations;
+        long cacheHits;
+        Histogram latency;
+
+        public long getInFlight() {
+            return inFlight;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getCancellations() {
+            return cancellations;
+        }
+
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        public Histogram getLatency() {
+            return latency;
+        }
+    }
+
+    /**
+     * Statistics of the compiler manager.
+     */
+    public static class CompilerStats {
+        long projectCount;
+        long projectCacheHits;
+        long projectCacheMisses;
+        Histogram projectLoad;
+        long compilationCacheHits;
+        Histogram compilation;
+
+        public long getProjectCount() {
+            return projectCount;
+        }
+
+        public long getProjectCacheHits() {
+            return projectCacheHits;
+        }
+
+        public long getProjectCacheMisses() {
+            return projectCacheMisses;
+        }
+
+        public Histogram getProjectLoad() {
+            return projectLoad;
+        }
+
+        public long getCompilationCacheHits() {
+            return compilationCacheHits;
+        }
+
+        public Histogram getCompilation() {
+            return compilation;
+        }
+    }
+
+    /**
+     * Latency distribution, in milliseconds.
+     */
+    public static class Histogram {
+        long count;
+        double meanMs;
+        double maxMs;
+        double p50Ms;
+        double p90Ms;
+        double p99Ms;
+        Map<String, Long> buckets;
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMs() {
+            return meanMs;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public double getP50Ms() {
+            return p50Ms;
+        }
+
+        public double getP90Ms() {
+            return p90Ms;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+
+        public Map<String, Long> getBuckets() {
+            return buckets;
+        }
+    }
+}
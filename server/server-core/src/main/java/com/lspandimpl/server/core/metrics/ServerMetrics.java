@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.lspandimpl.server.api.context.LSContext;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Request and compiler metrics of a language server session.
+ * <p>
+ * The request metrics are recorded at the JSON-RPC message level, where a request starts when the message is read
+ * and completes when its response is written. Hence the latency covers the queueing, the computation and the
+ * serialization of the result, and also the requests which are not handled by the text document service.
+ * <p>
+ * When the system property {@code ls.metrics.dumpFile} is set, the metrics are periodically written to that file
+ * as JSON, every {@code ls.metrics.dumpInterval} seconds (60 by default).
+ *
+ * @since 1.0.0
+ */
+public class ServerMetrics {
+    private static final LSContext.Key<ServerMetrics> SERVER_METRICS_KEY = new LSContext.Key<>();
+    private static final String DUMP_FILE = System.getProperty("ls.metrics.dumpFile");
+    private static final int DUMP_INTERVAL_SECONDS = Integer.getInteger("ls.metrics.dumpInterval", 60);
+    private static final AtomicInteger SESSION_IDS = new AtomicInteger();
+
+    private final int sessionId = SESSION_IDS.incrementAndGet();
+    private final long startTime = System.currentTimeMillis();
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram projectLoad = new LatencyHistogram();
+    private final LatencyHistogram compilation = new LatencyHistogram();
+    private final LongAdder projectCacheHits = new LongAdder();
+    private final LongAdder projectCacheMisses = new LongAdder();
+    private final LongAdder compilationCacheHits = new LongAdder();
+    private volatile IntSupplier projectCount = () -> 0;
+    private ScheduledFuture<?> dumpTask;
+
+    public static ServerMetrics getInstance(LSContext serverContext) {
+        ServerMetrics metrics = serverContext.get(SERVER_METRICS_KEY);
+        if (metrics == null) {
+            metrics = new ServerMetrics(serverContext);
+        }
+
+        return metrics;
+    }
+
+    private ServerMetrics(LSContext serverContext) {
+        serverContext.put(SERVER_METRICS_KEY, this);
+        if (DUMP_FILE != null && DUMP_INTERVAL_SECONDS > 0) {
+            this.dumpTask = DumpScheduler.INSTANCE.scheduleWithFixedDelay(this::dump, DUMP_INTERVAL_SECONDS,
+                    DUMP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Wrap the consumer of the messages received from the client.
+     *
+     * @param consumer incoming message consumer
+     * @return {@link MessageConsumer} consumer recording the start of the requests
+     */
+    public MessageConsumer wrapIncoming(MessageConsumer consumer) {
+        return message -> {
+            if (message instanceof RequestMessage) {
+                RequestMessage request = (RequestMessage) message;
+                MethodMetrics methodMetrics = this.methods.computeIfAbsent(request.getMethod(),
+                        method -> new MethodMetrics());
+                methodMetrics.inFlight.increment();
+                this.pendingRequests.put(request.getId(), new PendingRequest(methodMetrics, System.nanoTime()));
+            }
+            consumer.consume(message);
+        };
+    }
+
+    /**
+     * Wrap the consumer of the messages sent to the client.
+     *
+     * @param consumer outgoing message consumer
+     * @return {@link MessageConsumer} consumer recording the completion of the requests
+     */
+    public MessageConsumer wrapOutgoing(MessageConsumer consumer) {
+        return message -> {
+            if (message instanceof ResponseMessage) {
+                this.responseSent((ResponseMessage) message);
+            }
+            consumer.consume(message);
+        };
+    }
+
+    /**
+     * Record the time a document request waited for the preceding document modifications.
+     *
+     * @param nanos wait time in nanoseconds
+     */
+    public void recordQueueWait(long nanos) {
+        this.queueWait.record(nanos);
+    }
+
+    /**
+     * Record that a document request has been served from the response cache.
+     *
+     * @param method LSP method of the request
+     */
+    public void recordResponseCacheHit(String method) {
+        this.methods.computeIfAbsent(method, key -> new MethodMetrics()).cacheHits.increment();
+    }
+
+    public void recordProjectCacheHit() {
+        this.projectCacheHits.increment();
+    }
+
+    public void recordProjectLoad(long nanos) {
+        this.projectCacheMisses.increment();
+        this.projectLoad.record(nanos);
+    }
+
+    public void recordCompilationCacheHit() {
+        this.compilationCacheHits.increment();
+    }
+
+    public void recordCompilation(long nanos) {
+        this.compilation.record(nanos);
+    }
+
+    public void setProjectCount(IntSupplier projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    public MetricsSnapshot getSnapshot() {
+        MetricsSnapshot snapshot = new MetricsSnapshot();
+        snapshot.uptimeMs = System.currentTimeMillis() - this.startTime;
+        Map<String, MetricsSnapshot.MethodStats> methodStats = new TreeMap<>();
+        this.methods.forEach((method, metrics) -> methodStats.put(method, metrics.snapshot()));
+        snapshot.methods = methodStats;
+        snapshot.queueWait = this.queueWait.snapshot();
+        MetricsSnapshot.CompilerStats compilerStats = new MetricsSnapshot.CompilerStats();
+        compilerStats.projectCount = this.projectCount.getAsInt();
+        compilerStats.projectCacheHits = this.projectCacheHits.sum();
+        compilerStats.projectCacheMisses = this.projectCacheMisses.sum();
+        compilerStats.projectLoad = this.projectLoad.snapshot();
+        compilerStats.compilationCacheHits = this.compilationCacheHits.sum();
+        compilerStats.compilation = this.compilation.snapshot();
+        snapshot.compiler = compilerStats;
+
+        return snapshot;
+    }
+
+    /**
+     * Stop the periodic dump, writing the final metrics.
+     */
+    public void close() {
+        if (this.dumpTask != null) {
+            this.dumpTask.cancel(false);
+            this.dump();
+        }
+    }
+
+    private void responseSent(ResponseMessage response) {
+        PendingRequest request = this.pendingRequests.remove(response.getId());
+        if (request == null) {
+            return;
+        }
+        MethodMetrics methodMetrics = request.methodMetrics;
+        methodMetrics.inFlight.decrement();
+        methodMetrics.latency.record(System.nanoTime() - request.startTime);
+        ResponseError error = response.getError();
+        if (error == null) {
+            return;
+        }
+        if (error.getCode() == ResponseErrorCode.RequestCancelled.getValue()) {
+            methodMetrics.cancellations.increment();
+        } else {
+            methodMetrics.errors.increment();
+        }
+    }
+
+    private void dump() {
+        // Each session of a multi client server writes to its own file
+        Path dumpFile = this.sessionId == 1 ? Paths.get(DUMP_FILE) : Paths.get(DUMP_FILE + "." + this.sessionId);
+        Path tempFile = dumpFile.resolveSibling(dumpFile.getFileName() + ".tmp");
+        try {
+            Files.writeString(tempFile, DumpScheduler.GSON.toJson(this.getSnapshot()));
+            Files.move(tempFile, dumpFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Dump is best effort, retried on the next interval
+        }
+    }
+
+    private static class MethodMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder cancellations = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+
+        private MetricsSnapshot.MethodStats snapshot() {
+            MetricsSnapshot.MethodStats stats = new MetricsSnapshot.MethodStats();
+            stats.inFlight = this.inFlight.sum();
+            stats.errors = this.errors.sum();
+            stats.cancellations = this.cancellations.sum();
+            stats.cacheHits = this.cacheHits.sum();
+            stats.latency = this.latency.snapshot();
+
+            return stats;
+        }
+    }
+
+    private static class PendingRequest {
+        private final MethodMetrics methodMetrics;
+        private final long startTime;
+
+        private PendingRequest(MethodMetrics methodMetrics, long startTime) {
+            this.methodMetrics = methodMetrics;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Created only when the periodic dump is enabled.
+     */
+    private static class DumpScheduler {
+        private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "metrics-dump");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.outline;
+
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Structural outline of a document, extracted from its syntax tree in a single pass.
+ * <p>
+ * The outline captures the import block, the function and type definitions at the module level along with their
+ * parameters, fields, documentation and annotations, and the string literals of the document. Features which only
+ * depend on the structure of the document derive their results from the outline instead of walking the syntax tree.
+ *
+ * @since 1.0.0
+ */
+public class DocumentOutline {
+    public static final DocumentOutline EMPTY =
+            new DocumentOutline(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    private final List<LineRange> imports;
+    private final List<Member> members;
+    private final List<StringLiteral> stringLiterals;
+
+    DocumentOutline(List<LineRange> imports, List<Member> members, List<StringLiteral> stringLiterals) {
+        this.imports = Collections.unmodifiableList(imports);
+        this.members = Collections.unmodifiableList(members);
+        this.stringLiterals = Collections.unmodifiableList(stringLiterals);
+    }
+
+    /**
+     * Get the ranges of the import declarations in the order of the declarations.
+     *
+     * @return {@link List} of import ranges
+     */
+    public List<LineRange> imports() {
+        return this.imports;
+    }
+
+    /**
+     * Get the function and type definitions at the module level in the order of the definitions.
+     *
+     * @return {@link List} of members
+     */
+    public List<Member> members() {
+        return this.members;
+    }
+
+    /**
+     * Get the string literals of the document, including the literals within the function bodies.
+     *
+     * @return {@link List} of string literals
+     */
+    public List<StringLiteral> stringLiterals() {
+        return this.stringLiterals;
+    }
+
+    /**
+     * A function or type definition at the module level.
+     */
+    public static class Member {
+        private final SyntaxKind kind;
+        private final String name;
+        private final LineRange lineRange;
+        private final LineRange nameRange;
+        private final LineRange keywordRange;
+        private final LineRange documentationRange;
+        private final LineRange annotationsRange;
+        private final boolean deprecated;
+        private final boolean recordType;
+        private final List<Child> children;
+
+        Member(SyntaxKind kind, String name, LineRange lineRange, LineRange nameRange, LineRange keywordRange,
+               LineRange documentationRange, LineRange annotationsRange, boolean deprecated, boolean recordType,
+               List<Child> children) {
+            this.kind = kind;
+            this.name = name;
+            this.lineRange = lineRange;
+            this.nameRange = nameRange;
+            this.keywordRange = keywordRange;
+            this.documentationRange = documentationRange;
+            this.annotationsRange = annotationsRange;
+            this.deprecated = deprecated;
+            this.recordType = recordType;
+            this.children = Collections.unmodifiableList(children);
+        }
+
+        public SyntaxKind kind() {
+            return this.kind;
+        }
+
+        public String name() {
+            return this.name;
+        }
+
+        public LineRange lineRange() {
+            return this.lineRange;
+        }
+
+        public LineRange nameRange() {
+            return this.nameRange;
+        }
+
+        /**
+         * Get the range of the leading keyword, which is the function keyword of a function definition.
+         *
+         * @return {@link LineRange} keyword range
+         */
+        public LineRange keywordRange() {
+            return this.keywordRange;
+        }
+
+        public Optional<LineRange> documentationRange() {
+            return Optional.ofNullable(this.documentationRange);
+        }
+
+        /**
+         * Get the range spanning from the first to the last annotation of the member.
+         *
+         * @return {@link Optional} annotations range, empty if the member is not annotated
+         */
+        public Optional<LineRange> annotationsRange() {
+            return Optional.ofNullable(this.annotationsRange);
+        }
+
+        public boolean isDeprecated() {
+            return this.deprecated;
+        }
+
+        public boolean isRecordType() {
+            return this.recordType;
+        }
+
+        /**
+         * Get the parameters of a function definition or the fields of a record type definition.
+         *
+         * @return {@link List} of children
+         */
+        public List<Child> children() {
+            return this.children;
+        }
+    }
+
+    /**
+     * A parameter of a function definition or a field of a record type definition.
+     */
+    public static class Child {
+        private final String name;
+        private final LineRange lineRange;
+        private final LineRange nameRange;
+
+        Child(String name, LineRange lineRange, LineRange nameRange) {
+            this.name = name;
+            this.lineRange = lineRange;
+            this.nameRange = nameRange;
+        }
+
+        public String name() {
+            return this.name;
+        }
+
+        public LineRange lineRange() {
+            return this.lineRange;
+        }
+
+        public LineRange nameRange() {
+            return this.nameRange;
+        }
+    }
+
+    /**
+     * A string literal along with its source text, including the quotes.
+     */
+    public static class StringLiteral {
+        private final String text;
+        private final LineRange lineRange;
+
+        StringLiteral(String text, LineRange lineRange) {
+            this.text = text;
+            this.lineRange = lineRange;
+        }
+
+        public String text() {
+            return this.text;
+        }
+
+        public LineRange lineRange() {
+            return this.lineRange;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.outline;
+
+import com.lspandimpl.server.core.utils.CommonUtils;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.RestParameterNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the {@link DocumentOutline} with a single walk over the syntax tree.
+ *
+ * @since 1.0.0
+ */
+class DocumentOutlineBuilder extends NodeVisitor {
+    private final List<LineRange> imports = new ArrayList<>();
+    private final List<DocumentOutline.Member> members = new ArrayList<>();
+    private final List<DocumentOutline.StringLiteral> stringLiterals = new ArrayList<>();
+
+    static DocumentOutline build(SyntaxTree syntaxTree) {
+        DocumentOutlineBuilder builder = new DocumentOutlineBuilder();
+        syntaxTree.rootNode().accept(builder);
+
+        return new DocumentOutline(builder.imports, builder.members, builder.stringLiterals);
+    }
+
+    @Override
+    public void visit(ImportDeclarationNode importDeclarationNode) {
+        this.imports.add(importDeclarationNode.lineRange());
+    }
+
+    @Override
+    public void visit(FunctionDefinitionNode functionDefinitionNode) {
+        // Object methods are function definitions as well, which are not members of the module
+        if (functionDefinitionNode.kind() == SyntaxKind.FUNCTION_DEFINITION) {
+            List<DocumentOutline.Child> parameters = new ArrayList<>();
+            for (ParameterNode parameter : functionDefinitionNode.functionSignature().parameters()) {
+                getParameterName(parameter).ifPresent(paramName -> parameters.add(new DocumentOutline.Child(
+                        paramName.text(), parameter.lineRange(), paramName.lineRange())));
+            }
+            Optional<MetadataNode> metadata = functionDefinitionNode.metadata();
+            this.members.add(new DocumentOutline.Member(functionDefinitionNode.kind(),
+                    functionDefinitionNode.functionName().text(), functionDefinitionNode.lineRange(),
+                    functionDefinitionNode.functionName().lineRange(),
+                    functionDefinitionNode.functionKeyword().lineRange(), getDocumentationRange(metadata),
+                    getAnnotationsRange(metadata), CommonUtils.isDeprecated(functionDefinitionNode), false,
+                    parameters));
+        }
+        // Continue within the function body to collect the string literals
+        this.visitSyntaxNode(functionDefinitionNode);
+    }
+
+    @Override
+    public void visit(TypeDefinitionNode typeDefinitionNode) {
+        boolean recordType = typeDefinitionNode.typeDescriptor().kind() == SyntaxKind.RECORD_TYPE_DESC;
+        List<DocumentOutline.Child> fields = recordType
+                ? getFields((RecordTypeDescriptorNode) typeDefinitionNode.typeDescriptor())
+                : Collections.emptyList();
+        Optional<MetadataNode> metadata = typeDefinitionNode.metadata();
+        Token typeName = typeDefinitionNode.typeName();
+        this.members.add(new DocumentOutline.Member(typeDefinitionNode.kind(), typeName.text(),
+                typeDefinitionNode.lineRange(), typeName.lineRange(), typeDefinitionNode.typeKeyword().lineRange(),
+                getDocumentationRange(metadata), getAnnotationsRange(metadata),
+                CommonUtils.isDeprecated(typeDefinitionNode), recordType, fields));
+        this.visitSyntaxNode(typeDefinitionNode);
+    }
+
+    @Override
+    public void visit(BasicLiteralNode basicLiteralNode) {
+        if (basicLiteralNode.kind() == SyntaxKind.STRING_LITERAL) {
+            Token literalToken = basicLiteralNode.literalToken();
+            this.stringLiterals.add(new DocumentOutline.StringLiteral(literalToken.text(), literalToken.lineRange()));
+        }
+    }
+
+    private static Optional<Token> getParameterName(ParameterNode parameter) {
+        switch (parameter.kind()) {
+            case REQUIRED_PARAM:
+                return ((RequiredParameterNode) parameter).paramName();
+            case DEFAULTABLE_PARAM:
+                return ((DefaultableParameterNode) parameter).paramName();
+            case REST_PARAM:
+                return ((RestParameterNode) parameter).paramName();
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static List<DocumentOutline.Child> getFields(RecordTypeDescriptorNode recordType) {
+        List<DocumentOutline.Child> fields = new ArrayList<>();
+        for (Node field : recordType.fields()) {
+            Token fieldName;
+            if (field.kind() == SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE) {
+                fieldName = ((RecordFieldWithDefaultValueNode) field).fieldName();
+            } else if (field.kind() == SyntaxKind.RECORD_FIELD) {
+                fieldName = ((RecordFieldNode) field).fieldName();
+            } else {
+                continue;
+            }
+            fields.add(new DocumentOutline.Child(fieldName.text(), field.lineRange(), fieldName.lineRange()));
+        }
+
+        return fields;
+    }
+
+    private static LineRange getDocumentationRange(Optional<MetadataNode> metadata) {
+        return metadata.flatMap(MetadataNode::documentationString).map(Node::lineRange).orElse(null);
+    }
+
+    private static LineRange getAnnotationsRange(Optional<MetadataNode> metadata) {
+        if (metadata.isEmpty() || metadata.get().annotations().isEmpty()) {
+            return null;
+        }
+        NodeList<AnnotationNode> annotations = metadata.get().annotations();
+        LineRange first = annotations.get(0).lineRange();
+        LineRange last = annotations.get(annotations.size() - 1).lineRange();
+
+        return LineRange.from(first.filePath(), first.startLine(), last.endLine());
+    }
+}
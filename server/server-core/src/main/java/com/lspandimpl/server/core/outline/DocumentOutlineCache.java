@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.outline;
+
+import com.lspandimpl.server.api.context.LSContext;
+import com.lspandimpl.server.ballerina.compiler.workspace.CompilerManager;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches the {@link DocumentOutline} of the recently requested documents.
+ * <p>
+ * Each modification of a document yields a new syntax tree instance, hence the tree instance is used as the version
+ * of the cached outline. The outline is built once per version, no matter how many features are derived from it.
+ *
+ * @since 1.0.0
+ */
+public class DocumentOutlineCache {
+    private static final LSContext.Key<DocumentOutlineCache> OUTLINE_CACHE_KEY = new LSContext.Key<>();
+    private static final int MAX_DOCUMENTS = 16;
+
+    private final Map<Path, OutlineEntry> entries = new LinkedHashMap<>(MAX_DOCUMENTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, OutlineEntry> eldest) {
+            return size() > MAX_DOCUMENTS;
+        }
+    };
+
+    public static DocumentOutlineCache getInstance(LSContext serverContext) {
+        DocumentOutlineCache cache = serverContext.get(OUTLINE_CACHE_KEY);
+        if (cache == null) {
+            cache = new DocumentOutlineCache(serverContext);
+        }
+
+        return cache;
+    }
+
+    private DocumentOutlineCache(LSContext serverContext) {
+        serverContext.put(OUTLINE_CACHE_KEY, this);
+    }
+
+    /**
+     * Get the outline of the current syntax tree of the document.
+     *
+     * @param compilerManager compiler manager
+     * @param path            document path
+     * @return {@link DocumentOutline} outline, empty if the document has no syntax tree
+     */
+    public DocumentOutline getOutline(CompilerManager compilerManager, Path path) {
+        Optional<SyntaxTree> syntaxTree = compilerManager.getParsedSyntaxTree(path);
+        if (syntaxTree.isEmpty()) {
+            return DocumentOutline.EMPTY;
+        }
+        synchronized (this.entries) {
+            OutlineEntry entry = this.entries.get(path);
+            if (entry != null && entry.syntaxTree == syntaxTree.get()) {
+                return entry.outline;
+            }
+        }
+        // Build outside the lock, since the features of different documents are requested in parallel
+        DocumentOutline outline = DocumentOutlineBuilder.build(syntaxTree.get());
+        synchronized (this.entries) {
+            this.entries.put(path, new OutlineEntry(syntaxTree.get(), outline));
+        }
+
+        return outline;
+    }
+
+    /**
+     * Remove the cached outline of the given document.
+     *
+     * @param path document path
+     */
+    public void invalidate(Path path) {
+        synchronized (this.entries) {
+            this.entries.remove(path);
+        }
+    }
+
+    private static class OutlineEntry {
+        private final SyntaxTree syntaxTree;
+        private final DocumentOutline outline;
+
+        private OutlineEntry(SyntaxTree syntaxTree, DocumentOutline outline) {
+            this.syntaxTree = syntaxTree;
+            this.outline = outline;
+        }
+    }
+}
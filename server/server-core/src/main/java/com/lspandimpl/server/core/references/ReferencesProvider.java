@@ -8,6 +8,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LinePosition;
 import org.eclipse.lsp4j.Location;
@@ -54,11 +55,11 @@ public class ReferencesProvider extends AbstractProvider {
         Symbol symbolAtCursor = compilerManager.getSemanticModel(path)
                 .orElseThrow().symbol(document, linePos)
                 .orElseThrow();
+        PackageCompilation compilation = compilerManager.getCompilation(path).orElseThrow();
         // Iterate over each of the modules and find the references
         // of the symbol at the cursor position
         project.currentPackage().moduleIds().forEach(moduleId -> {
-            SemanticModel semanticModel = project.currentPackage()
-                    .getCompilation().getSemanticModel(moduleId);
+            SemanticModel semanticModel = compilation.getSemanticModel(moduleId);
             List<io.ballerina.tools.diagnostics.Location>
                     references = semanticModel
                     .references(symbolAtCursor, includeDeclaration);
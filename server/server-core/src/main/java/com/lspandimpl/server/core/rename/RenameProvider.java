@@ -10,6 +10,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
@@ -66,9 +67,10 @@ public class RenameProvider {
         }
 
         Map<String, List<TextEdit>> textEditMap = new HashMap<>();
+        PackageCompilation compilation = compilerManager.getCompilation(context.getPath()).orElseThrow();
         
         for (Module module : modules) {
-            SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+            SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
             String pkgName = context.compilerManager()
                     .getProject(context.getPath()).orElseThrow()
                     .currentPackage().packageName().value();
@@ -18,14 +18,14 @@ public class SelectionRangeProvider extends AbstractProvider {
     public static List<SelectionRange>
     getSelectionRange(BalSelectionRangeContext context) {
         Optional<SyntaxTree> syntaxTree =
-                context.compilerManager().getSyntaxTree(context.getPath());
+                context.compilerManager().getParsedSyntaxTree(context.getPath());
         if (syntaxTree.isEmpty()) {
             return Collections.emptyList();
         }
         List<SelectionRange> selectionRanges = new ArrayList<>();
         for (Position position : context.positions()) {
             NonTerminalNode nodeAtPosition =
-                    ContextEvaluator.nodeAtPosition(position, context);
+                    ContextEvaluator.nodeAtPosition(position, syntaxTree.get());
             NonTerminalNode parent = nodeAtPosition.parent();
             SelectionRange selectionRange = new SelectionRange();
             Range range = toRange(parent.lineRange());
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.semantictoken;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.eclipse.lsp4j.SemanticTokens;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Semantic tokens backed by a primitive int array.
+ * <p>
+ * The token data is accumulated without boxing and is written to the JSON output element by element with the
+ * {@link PackedSemanticTokensAdapter}, instead of materializing a {@link List} of {@link Integer} and a JSON tree.
+ * {@link #getData()} returns a read only view over the array for the consumers of the lsp4j model.
+ *
+ * @since 1.0.0
+ */
+public class PackedSemanticTokens extends SemanticTokens {
+    private final int[] packedData;
+    private final int size;
+
+    private PackedSemanticTokens(int[] packedData, int size) {
+        super(new IntListView(packedData, size));
+        this.packedData = packedData;
+        this.size = size;
+    }
+
+    /**
+     * Builder which accumulates the tokens in the relative encoding of the protocol.
+     */
+    public static class Builder {
+        private static final int INTS_PER_TOKEN = 5;
+        private int[] data = new int[INTS_PER_TOKEN * 64];
+        private int size = 0;
+
+        public Builder addToken(int deltaLine, int deltaStart, int length, int tokenType, int tokenModifiers) {
+            if (this.size + INTS_PER_TOKEN > this.data.length) {
+                this.data = Arrays.copyOf(this.data, this.data.length * 2);
+            }
+            this.data[this.size++] = deltaLine;
+            this.data[this.size++] = deltaStart;
+            this.data[this.size++] = length;
+            this.data[this.size++] = tokenType;
+            this.data[this.size++] = tokenModifiers;
+
+            return this;
+        }
+
+        public PackedSemanticTokens build() {
+            return new PackedSemanticTokens(this.data, this.size);
+        }
+    }
+
+    /**
+     * Writes the token data directly from the backing array, and reads it back without boxing for the in-process
+     * consumers sharing the same {@link com.google.gson.Gson} configuration.
+     */
+    public static class PackedSemanticTokensAdapter extends TypeAdapter<PackedSemanticTokens> {
+        @Override
+        public void write(JsonWriter out, PackedSemanticTokens tokens) throws IOException {
+            if (tokens == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (tokens.getResultId() != null) {
+                out.name("resultId").value(tokens.getResultId());
+            }
+            out.name("data").beginArray();
+            for (int i = 0; i < tokens.size; i++) {
+                out.value(tokens.packedData[i]);
+            }
+            out.endArray();
+            out.endObject();
+        }
+
+        @Override
+        public PackedSemanticTokens read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String resultId = null;
+            int[] data = new int[0];
+            int size = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("resultId".equals(name) && in.peek() != JsonToken.NULL) {
+                    resultId = in.nextString();
+                } else if ("data".equals(name) && in.peek() != JsonToken.NULL) {
+                    data = new int[64];
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        if (size == data.length) {
+                            data = Arrays.copyOf(data, data.length * 2);
+                        }
+                        data[size++] = in.nextInt();
+                    }
+                    in.endArray();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            PackedSemanticTokens tokens = new PackedSemanticTokens(data, size);
+            tokens.setResultId(resultId);
+
+            return tokens;
+        }
+    }
+
+    private static class IntListView extends AbstractList<Integer> implements RandomAccess {
+        private final int[] data;
+        private final int size;
+
+        private IntListView(int[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+            }
+
+            return this.data[index];
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
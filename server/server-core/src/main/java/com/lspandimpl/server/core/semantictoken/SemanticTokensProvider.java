@@ -1,13 +1,10 @@
 package com.lspandimpl.server.core.semantictoken;
 
 import com.lspandimpl.server.api.context.BalSemanticTokenRangeContext;
-import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import com.lspandimpl.server.core.outline.DocumentOutline;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
-import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SemanticTokenModifiers;
 import org.eclipse.lsp4j.SemanticTokenTypes;
@@ -15,7 +12,6 @@ import org.eclipse.lsp4j.SemanticTokens;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import com.lspandimpl.server.api.context.BalSemanticTokenContext;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -35,81 +31,67 @@ public class SemanticTokensProvider {
     public static final SemanticTokensLegend SEMANTIC_TOKENS_LEGEND =
             new SemanticTokensLegend(TOKEN_TYPES, MODIFIERS);
 
-    public static SemanticTokens getSemanticTokens(BalSemanticTokenContext context) {
-        SyntaxTree syntaxTree = context.currentSyntaxTree().get();
-        List<Integer> data = new ArrayList<>();
-        Map<Integer, Token> lastTokenInLine = new HashMap<>();
+    public static SemanticTokens getSemanticTokens(BalSemanticTokenContext context, DocumentOutline outline) {
+        PackedSemanticTokens.Builder data = new PackedSemanticTokens.Builder();
+        Map<Integer, LinePosition> lastTokenInLine = new HashMap<>();
         int lastLine = 0;
-        ModulePartNode modPart = syntaxTree.rootNode();
-        for (ModuleMemberDeclarationNode member : (modPart).members()) {
+        for (DocumentOutline.Member member : outline.members()) {
             // filter only the type definitions
             if (member.kind() != SyntaxKind.TYPE_DEFINITION) {
                 continue;
             }
-            Token typeName = ((TypeDefinitionNode) member).typeName();
-            LinePosition startLine =
-                    typeName.lineRange().startLine();
+            LinePosition startLine = member.nameRange().startLine();
             int startChar = startLine.offset();
             if (lastTokenInLine.containsKey(startLine.line())) {
                 // captures the token offset relative
                 // to last token of a given line
                 startChar = startChar - lastTokenInLine
-                        .get(startLine.line()).lineRange()
-                        .startLine().offset();
+                        .get(startLine.line()).offset();
             }
             int line = startLine.line() - lastLine;
             lastLine = startLine.line();
-            lastTokenInLine.put(line, typeName);
-            int length = typeName.text().length();
+            lastTokenInLine.put(line, startLine);
+            int length = member.name().length();
             int tokenType = TOKEN_TYPES.indexOf(SemanticTokenTypes.Type);
             int tokenModifiers =
                     (1 << MODIFIERS.indexOf(SemanticTokenModifiers.Declaration))
                             | (1 << MODIFIERS.indexOf(SemanticTokenModifiers.Definition));
-            data.add(line);
-            data.add(startChar);
-            data.add(length);
-            data.add(tokenType);
-            data.add(tokenModifiers);
+            data.addToken(line, startChar, length, tokenType, tokenModifiers);
         }
 
-        return new SemanticTokens(data);
+        return data.build();
     }
 
-    public static SemanticTokens getSemanticTokensInRange(BalSemanticTokenRangeContext context) {
+    public static SemanticTokens getSemanticTokensInRange(BalSemanticTokenRangeContext context,
+                                                          DocumentOutline outline) {
         Range range = context.params().getRange();
-        SyntaxTree syntaxTree = context.compilerManager().getSyntaxTree(context.getPath()).orElseThrow();
-        List<Integer> data = new ArrayList<>();
-        Map<Integer, Token> lastTokenInLine = new HashMap<>();
+        PackedSemanticTokens.Builder data = new PackedSemanticTokens.Builder();
+        Map<Integer, LinePosition> lastTokenInLine = new HashMap<>();
         int lastLine = 0;
-        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
-            if (member.kind() == SyntaxKind.TYPE_DEFINITION && withinRange(member, range)) {
-                Token typeName = ((TypeDefinitionNode) member).typeName();
-                LinePosition startLine = typeName.lineRange().startLine();
+        for (DocumentOutline.Member member : outline.members()) {
+            if (member.kind() == SyntaxKind.TYPE_DEFINITION && withinRange(member.lineRange(), range)) {
+                LinePosition startLine = member.nameRange().startLine();
                 int startChar = startLine.offset();
                 if (lastTokenInLine.containsKey(startLine.line())) {
-                    startChar = startChar - lastTokenInLine.get(startLine.line()).lineRange().startLine().offset();
+                    startChar = startChar - lastTokenInLine.get(startLine.line()).offset();
                 }
                 int line = startLine.line() - lastLine;
                 lastLine = startLine.line();
-                lastTokenInLine.put(line, typeName);
-                int length = typeName.text().length();
+                lastTokenInLine.put(line, startLine);
+                int length = member.name().length();
                 int tokenType = TOKEN_TYPES.indexOf(SemanticTokenTypes.Type);
                 int tokenModifiers = (1 << MODIFIERS.indexOf(SemanticTokenModifiers.Declaration))
                         | (1 << MODIFIERS.indexOf(SemanticTokenModifiers.Definition));
-                data.add(line);
-                data.add(startChar);
-                data.add(length);
-                data.add(tokenType);
-                data.add(tokenModifiers);
+                data.addToken(line, startChar, length, tokenType, tokenModifiers);
             }
         }
 
-        return new SemanticTokens(data);
+        return data.build();
     }
 
-    private static boolean withinRange(ModuleMemberDeclarationNode member, Range range) {
-        LinePosition startLine = member.lineRange().startLine();
-        LinePosition endLine = member.lineRange().endLine();
+    private static boolean withinRange(LineRange lineRange, Range range) {
+        LinePosition startLine = lineRange.startLine();
+        LinePosition endLine = lineRange.endLine();
 
         return startLine.line() >= range.getStart().getLine() && endLine.line() <= range.getEnd().getLine();
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Runs the feature providers of a request in parallel within a shared time budget.
+ * <p>
+ * Every task runs on the provider pool, including a single one, so that the latency of the request is bounded
+ * regardless of the number of providers. The budget starts from the fan-out, and the results of the tasks exceeding
+ * it are dropped. The results are returned on the calling thread in the order of the tasks, hence the tasks should
+ * not write to any state shared with the other tasks.
+ *
+ * @since 1.0.0
+ */
+public class BudgetedFanOut {
+    private static final ExecutorService providerExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "feature-provider");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private BudgetedFanOut() {
+    }
+
+    /**
+     * Run the tasks in parallel and wait for their results within the budget.
+     *
+     * @param tasks     tasks to be run
+     * @param budgetMs  time budget in milliseconds
+     * @param onFailure consumes the cause of the failed tasks
+     * @param <T>       result type
+     * @return {@link Result} of the tasks completed within the budget
+     */
+    public static <T> Result<T> invokeAll(List<Callable<T>> tasks, long budgetMs, Consumer<Throwable> onFailure) {
+        if (tasks.isEmpty()) {
+            return new Result<>(Collections.emptyList(), false);
+        }
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(providerExecutor.submit(task));
+        }
+
+        List<T> values = new ArrayList<>(tasks.size());
+        boolean timedOut = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        for (Future<T> future : futures) {
+            try {
+                values.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timedOut = true;
+            } catch (ExecutionException e) {
+                onFailure.accept(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                timedOut = true;
+                break;
+            }
+        }
+
+        return new Result<>(values, timedOut);
+    }
+
+    /**
+     * Results of the tasks completed within the budget, in the order of the tasks.
+     *
+     * @param <T> result type
+     */
+    public static class Result<T> {
+        private final List<T> values;
+        private final boolean timedOut;
+
+        private Result(List<T> values, boolean timedOut) {
+            this.values = values;
+            this.timedOut = timedOut;
+        }
+
+        public List<T> getValues() {
+            return values;
+        }
+
+        /**
+         * Whether any of the tasks did not complete within the budget.
+         *
+         * @return {@link Boolean} true if the results of some tasks are dropped
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+    }
+}
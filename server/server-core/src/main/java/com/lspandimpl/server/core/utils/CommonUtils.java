@@ -21,7 +21,10 @@ import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.compiler.api.symbols.VariableSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
@@ -34,7 +37,6 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4j.SymbolTag;
-import com.lspandimpl.server.api.context.BalPosBasedContext;
 import com.lspandimpl.server.api.context.BaseOperationContext;
 
 import java.net.URI;
@@ -89,8 +91,28 @@ public class CommonUtils {
 
     }
 
+    /**
+     * Check whether the module member is annotated as deprecated. The check is based on the syntax tree only, hence
+     * it does not require the semantic model of the module.
+     *
+     * @param member module member
+     * @return {@link Boolean} whether the member is deprecated
+     */
     public static boolean isDeprecated(ModuleMemberDeclarationNode member) {
-        return false;
+        Optional<MetadataNode> metadata;
+        switch (member.kind()) {
+            case FUNCTION_DEFINITION:
+                metadata = ((FunctionDefinitionNode) member).metadata();
+                break;
+            case TYPE_DEFINITION:
+                metadata = ((TypeDefinitionNode) member).metadata();
+                break;
+            default:
+                return false;
+        }
+
+        return metadata.isPresent() && metadata.get().annotations().stream()
+                .anyMatch(annotation -> annotation.annotReference().toSourceCode().trim().equals("deprecated"));
     }
 
     public static SymbolInformation getSymbolInformation(Symbol symbol, BaseOperationContext context, Path projRoot) {
@@ -191,12 +213,4 @@ public class CommonUtils {
 
         return diag;
     }
-    
-    public static String getExpectedTypeDescriptor(Range range, BalPosBasedContext context) {
-        LinePosition start = LinePosition.from(range.getStart().getLine(), range.getStart().getCharacter());
-        LinePosition end = LinePosition.from(range.getEnd().getLine(), range.getEnd().getCharacter());
-        String filePath = context.getPath().toFile().getName();
-        LineRange lineRange = LineRange.from(filePath, start, end);
-        return context.compilerManager().getSemanticModel(context.getPath()).get().typeOf(lineRange).get().signature();
-    }
 }
@@ -2,6 +2,7 @@ package com.lspandimpl.server.core.utils;
 
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.projects.Document;
 import io.ballerina.tools.text.LinePosition;
@@ -53,10 +54,22 @@ public class ContextEvaluator {
         if (document.isEmpty()) {
             throw new RuntimeException("Could not find a valid document");
         }
-        TextDocument textDocument = document.get().textDocument();
+
+        return nodeAtPosition(position, document.get().syntaxTree());
+    }
+
+    /**
+     * Find the innermost node at the position, in the given syntax tree.
+     *
+     * @param position   position in the document
+     * @param syntaxTree syntax tree of the document
+     * @return {@link NonTerminalNode} at the position
+     */
+    public static NonTerminalNode nodeAtPosition(Position position, SyntaxTree syntaxTree) {
+        TextDocument textDocument = syntaxTree.textDocument();
         int txtPos = textDocument.textPositionFrom(LinePosition.from(position.getLine(), position.getCharacter()));
         TextRange range = TextRange.from(txtPos, 0);
-        NonTerminalNode nonTerminalNode = ((ModulePartNode) document.get().syntaxTree().rootNode()).findNode(range);
+        NonTerminalNode nonTerminalNode = ((ModulePartNode) syntaxTree.rootNode()).findNode(range);
 
         while (true) {
             /*
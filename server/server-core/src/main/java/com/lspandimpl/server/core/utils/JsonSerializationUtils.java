@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021, Nadeeshaan Gunasinghe, Nipuna Marcus
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lspandimpl.server.core.utils;
+
+import com.google.gson.GsonBuilder;
+import com.lspandimpl.server.core.semantictoken.PackedSemanticTokens;
+
+/**
+ * Gson configuration of the server for the JSON-RPC message handler.
+ *
+ * @since 1.0.0
+ */
+public class JsonSerializationUtils {
+    private JsonSerializationUtils() {
+    }
+
+    /**
+     * Register the streaming type adapters of the large result types.
+     *
+     * @param gsonBuilder gson builder of the message handler
+     */
+    public static void configureGson(GsonBuilder gsonBuilder) {
+        gsonBuilder.registerTypeAdapter(PackedSemanticTokens.class,
+                new PackedSemanticTokens.PackedSemanticTokensAdapter());
+    }
+}
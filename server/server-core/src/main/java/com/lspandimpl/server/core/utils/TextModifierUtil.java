@@ -2,7 +2,7 @@ package com.lspandimpl.server.core.utils;
 
 import com.lspandimpl.server.api.context.BaseOperationContext;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
-import io.ballerina.projects.Document;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.LinePosition;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
@@ -14,19 +14,20 @@ import java.util.Optional;
 public class TextModifierUtil {
     
     public static Optional<TextEdit> withEndingNewLine(Path path, BaseOperationContext context) {
-        Document document = context.compilerManager().getDocument(path).orElseThrow();
-        String sourceCode = document.syntaxTree().toSourceCode();
+        Optional<SyntaxTree> syntaxTree = context.compilerManager().getParsedSyntaxTree(path);
+        if (syntaxTree.isEmpty()) {
+            return Optional.empty();
+        }
+        String sourceCode = syntaxTree.get().toSourceCode();
         if (!sourceCode.endsWith(CommonUtils.LINE_SEPARATOR)) {
             TextEdit textEdit = new TextEdit();
-            ModulePartNode modulePartNode = document.syntaxTree().rootNode();
-            textEdit.setNewText(sourceCode + CommonUtils.LINE_SEPARATOR);
+            ModulePartNode modulePartNode = syntaxTree.get().rootNode();
+            // Insert the line separator at the end, instead of replacing the full document
+            textEdit.setNewText(CommonUtils.LINE_SEPARATOR);
             
             LinePosition endLine = modulePartNode.lineRange().endLine();
-            Range range = new Range();
-            range.setStart(new Position(0, 0));
-            range.setEnd(new Position(endLine.line(), endLine.offset()));
-            
-            textEdit.setRange(range);
+            Position end = new Position(endLine.line(), endLine.offset());
+            textEdit.setRange(new Range(end, end));
             return Optional.of(textEdit);
         }
         